@@ -0,0 +1,41 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// 5k 동시 연결에서 처리량과 p99 지연 시간을 측정합니다.
+// BASE_URL, TEAM_ID, USER_ID, ACCESS_TOKEN 은 환경 변수로 넘깁니다.
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TEAM_ID = __ENV.TEAM_ID || '1';
+const USER_ID = __ENV.USER_ID || '1';
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN || '';
+
+export const options = {
+    scenarios: {
+        connections: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 5000),
+            duration: __ENV.DURATION || '3m',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    // MySQL(JPA)을 거치는 공개 API
+    const team = http.get(`${BASE_URL}/api/team/${TEAM_ID}`, { tags: { name: 'team' } });
+    check(team, { 'team 200': (r) => r.status === 200 });
+
+    const user = http.get(`${BASE_URL}/api/user/${USER_ID}`, { tags: { name: 'user' } });
+    check(user, { 'user 200': (r) => r.status === 200 });
+
+    // JWT 검증과 Redis 로그아웃 목록 조회를 거치는 인증 API
+    if (ACCESS_TOKEN) {
+        const me = http.get(`${BASE_URL}/api/user/me`, {
+            headers: { Authorization: `Bearer ${ACCESS_TOKEN}` },
+            tags: { name: 'me' },
+        });
+        check(me, { 'me 200': (r) => r.status === 200 });
+    }
+}
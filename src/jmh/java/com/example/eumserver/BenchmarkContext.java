@@ -0,0 +1,56 @@
+package com.example.eumserver;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Testcontainers로 띄운 MySQL과 Redis 위에 올린 application context
+ * DB를 거치는 benchmark가 {@code @Setup}에서 만들고 {@code @TearDown}에서 닫습니다. Docker가 필요합니다.
+ */
+public final class BenchmarkContext implements AutoCloseable {
+
+    private final MySQLContainer<?> mySqlContainer;
+    private final GenericContainer<?> redisContainer;
+    private final ConfigurableApplicationContext context;
+
+    public BenchmarkContext() {
+        mySqlContainer = new MySQLContainer<>("mysql:8");
+        mySqlContainer.start();
+        redisContainer = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        redisContainer.start();
+
+        // 명령행 인자는 application.properties의 환경 변수 placeholder보다 우선합니다.
+        context = new SpringApplicationBuilder(EumServerApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + mySqlContainer.getJdbcUrl(),
+                "--spring.datasource.username=" + mySqlContainer.getUsername(),
+                "--spring.datasource.password=" + mySqlContainer.getPassword(),
+                "--spring.data.redis.host=" + redisContainer.getHost(),
+                "--spring.data.redis.port=" + redisContainer.getMappedPort(6379),
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--logging.level.com.example.eumserver=info",
+                "--jwt.secret=benchmarksecretbenchmarksecretbenchmarksecretbenchmarksecretbenchmarksecret",
+                "--jwt.token.access-expiration-time=3600000",
+                "--jwt.token.refresh-expiration-time=3600000",
+                "--spring.mail.username=benchmark",
+                "--spring.mail.password=benchmark",
+                "--spring.security.oauth2.client.registration.google.client-id=benchmark",
+                "--spring.security.oauth2.client.registration.google.client-secret=benchmark",
+                "--spring.security.oauth2.client.registration.google.redirect-uri=benchmark",
+                "--oauth2.client.google.default.redirect-uri=benchmark");
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        redisContainer.stop();
+        mySqlContainer.stop();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.eumserver.domain.jwt;
+
+import com.example.eumserver.domain.user.Name;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 Access Token으로 반복 인증할 때 캐시 유무에 따른 {@link JwtAuthenticationFilter} 인증 비용 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmarksecretbenchmarksecretbenchmarksecretbenchmarksecretbenchmarksecret";
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET);
+        tokenProvider.setAcExpirationInMs(TimeUnit.HOURS.toMillis(1));
+
+        PrincipalDetails principalDetails = new PrincipalDetails(
+                1L,
+                "bench@e-um.site",
+                new Name("bench", ""),
+                "avatar",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = tokenProvider.generateAccessToken(principalDetails);
+
+        cachedFilter = new JwtAuthenticationFilter(
+                tokenProvider, new JwtAuthenticationCache(10_000, new SimpleMeterRegistry()), null);
+        uncachedFilter = new JwtAuthenticationFilter(
+                tokenProvider, new JwtAuthenticationCache(0, new SimpleMeterRegistry()), null);
+    }
+
+    @Benchmark
+    public AuthenticatedToken withCache() {
+        return cachedFilter.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public AuthenticatedToken withoutCache() {
+        return uncachedFilter.authenticate(accessToken);
+    }
+}
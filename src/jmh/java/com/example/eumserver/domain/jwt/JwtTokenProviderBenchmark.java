@@ -0,0 +1,56 @@
+package com.example.eumserver.domain.jwt;
+
+import com.example.eumserver.domain.user.Name;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 코어 기준 초당 검증 가능한 토큰 수
+ * legacy: 호출마다 parser를 새로 만들고 validate/getAuthentication에서 두 번 파싱하던 기존 방식
+ * verify: 공유 parser로 한 번 파싱한 {@link VerifiedToken}에서 {@link Authentication}을 만드는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmarksecretbenchmarksecretbenchmarksecretbenchmarksecretbenchmarksecret";
+
+    private JwtTokenProvider tokenProvider;
+    private Key key;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET);
+        tokenProvider.setAcExpirationInMs(TimeUnit.HOURS.toMillis(1));
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+        PrincipalDetails principalDetails = new PrincipalDetails(
+                1L,
+                "bench@e-um.site",
+                new Name("bench", ""),
+                "avatar",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        accessToken = tokenProvider.generateAccessToken(principalDetails);
+    }
+
+    @Benchmark
+    public Object legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+    }
+
+    @Benchmark
+    public Authentication verify() {
+        return tokenProvider.verify(accessToken).toAuthentication();
+    }
+}
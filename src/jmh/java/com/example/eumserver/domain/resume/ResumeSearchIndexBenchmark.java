@@ -0,0 +1,73 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.domain.resume.dto.ResumeSearchFilter;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResponse;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 공개 이력서 50만 개를 색인한 {@link ResumeSearchIndex}에서 조건 조합별 검색 한 번(3번째 페이지, 20개)의 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResumeSearchIndexBenchmark {
+
+    private static final int RESUMES = 500_000;
+
+    private static final Map<String, ResumeSearchFilter> QUERIES = Map.of(
+            "all", new ResumeSearchFilter(null, null, null, null, null, null),
+            "category", new ResumeSearchFilter("development", null, null, null, null, null),
+            "category+gpa", new ResumeSearchFilter("development", null, 3.5, 4.5, null, null),
+            "subcategory+technology", new ResumeSearchFilter(null, "sub3", null, null, null, List.of("technology7")),
+            "certificate+technology", new ResumeSearchFilter(null, null, null, null, List.of("certificate1"), List.of("technology2")),
+            "certificate+gpa", new ResumeSearchFilter(null, null, 3.0, null, List.of("certificate9"), null));
+
+    @Param({"all", "category", "category+gpa", "subcategory+technology", "certificate+technology", "certificate+gpa"})
+    public String query;
+
+    private ResumeSearchIndex index;
+    private ResumeSearchFilter filter;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> categories = List.of("development", "design", "planning", "marketing", "data");
+        List<String> subcategories = IntStream.range(0, 20).mapToObj(i -> "sub" + i).toList();
+        List<String> certificates = IntStream.range(0, 200).mapToObj(i -> "certificate" + i).toList();
+        List<String> technologies = IntStream.range(0, 500).mapToObj(i -> "technology" + i).toList();
+
+        index = new ResumeSearchIndex();
+        for (long id = 1; id <= RESUMES; id++) {
+            index.put(new ResumeSearchResult(id, id, "resume", pick(random, categories), pick(random, subcategories),
+                    2.0 + random.nextInt(26) / 10.0,
+                    picks(random, certificates, random.nextInt(4)),
+                    picks(random, technologies, 1 + random.nextInt(5))));
+        }
+        filter = QUERIES.get(query);
+    }
+
+    @Benchmark
+    public ResumeSearchResponse search() {
+        return index.search(filter, 2, 20);
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<String> picks(Random random, List<String> values, int count) {
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(pick(random, values));
+        }
+        return picked;
+    }
+}
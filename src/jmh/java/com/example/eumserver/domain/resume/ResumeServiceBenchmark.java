@@ -0,0 +1,70 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.BenchmarkContext;
+import com.example.eumserver.domain.resume.dto.ResumeActivityRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCareerRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCertificateRequest;
+import com.example.eumserver.domain.resume.dto.ResumeHomepageRequest;
+import com.example.eumserver.domain.resume.dto.ResumeProjectRequest;
+import com.example.eumserver.domain.resume.dto.ResumeRequest;
+import com.example.eumserver.domain.resume.entity.HomepageType;
+import com.example.eumserver.domain.user.Name;
+import com.example.eumserver.domain.user.User;
+import com.example.eumserver.domain.user.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 하위 항목 50개(종류마다 10개)인 이력서 한 건의 {@link ResumeService#postResume} 응답 시간
+ * {@link BenchmarkContext}의 MySQL 위에서 ID 할당과 batch INSERT를 포함해 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+public class ResumeServiceBenchmark {
+
+    private static final int CHILDREN_PER_KIND = 10;
+
+    private BenchmarkContext context;
+    private ResumeService resumeService;
+    private long userId;
+    private ResumeRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new BenchmarkContext();
+        resumeService = context.getBean(ResumeService.class);
+        userId = context.getBean(UserRepository.class).save(User.builder()
+                .email(UUID.randomUUID() + "@e-um.site")
+                .name(new Name("benchmark", ""))
+                .provider("google")
+                .providerId(UUID.randomUUID().toString())
+                .build()).getId();
+        request = resumeRequest();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long postResume() {
+        return resumeService.postResume(request, userId).getId();
+    }
+
+    private static ResumeRequest resumeRequest() {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        return new ResumeRequest("benchmark", "development", "backend", 4.0, 4.5, "introduction", true,
+                IntStream.range(0, CHILDREN_PER_KIND).mapToObj(n -> new ResumeCareerRequest(null, "company", "backend", startDate, null, null, null, null)).toList(),
+                IntStream.range(0, CHILDREN_PER_KIND).mapToObj(n -> new ResumeCertificateRequest(null, "certificate", startDate, null, null, null)).toList(),
+                IntStream.range(0, CHILDREN_PER_KIND).mapToObj(n -> new ResumeProjectRequest(null, "project", "backend", startDate, null, null, null)).toList(),
+                IntStream.range(0, CHILDREN_PER_KIND).mapToObj(n -> new ResumeHomepageRequest(null, HomepageType.GITHUB, "https://github.com")).toList(),
+                IntStream.range(0, CHILDREN_PER_KIND).mapToObj(n -> new ResumeActivityRequest(null, "activity", startDate, null, null, null)).toList());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.eumserver.domain.team.announcement.repository;
+
+import com.example.eumserver.BenchmarkContext;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.domain.QAnnouncement;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 팀의 공고 100만 개에서 직종 두 개로 거른 첫 페이지(12개)와 전체 수를 읽는 응답 시간
+ * occupation_mask 도입 전의 collection table EXISTS 조회와 지금의 bit 연산 조회를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+public class AnnouncementOccupationFilterBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 12;
+    private static final List<OccupationClassification> WANTED = List.of(
+            OccupationClassification.DEVELOPMENT_BACKEND, OccupationClassification.DEVELOPMENT_DEVOPS);
+    private static final AnnouncementFilter FILTER = new AnnouncementFilter(false, WANTED);
+
+    private BenchmarkContext context;
+    private AnnouncementRepository announcementRepository;
+    private JPAQueryFactory queryFactory;
+    private Long teamId;
+
+    @Setup
+    public void setUp() {
+        context = new BenchmarkContext();
+        announcementRepository = context.getBean(AnnouncementRepository.class);
+        queryFactory = context.getBean(JPAQueryFactory.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        teamId = context.getBean(TeamRepository.class).save(Team.builder().name("benchmark").build()).getId();
+        AnnouncementSeed.announcements(jdbcTemplate, teamId, ROWS);
+        AnnouncementSeed.occupationClassifications(jdbcTemplate, teamId);
+
+        Page<AnnouncementResponse> page = bitmask();
+        if (page.getTotalElements() != countByExists()
+                || !page.getContent().stream().map(AnnouncementResponse::title).toList().equals(titlesByExists())) {
+            throw new IllegalStateException("bitmask and EXISTS filters differ");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void exists(Blackhole blackhole) {
+        blackhole.consume(titlesByExists());
+        blackhole.consume(countByExists());
+    }
+
+    @Benchmark
+    public Page<AnnouncementResponse> bitmask() {
+        return announcementRepository.getFilteredAnnouncementsWithPaging(
+                teamId, FILTER, AnnouncementSort.NEWEST, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    private List<String> titlesByExists() {
+        QAnnouncement announcement = QAnnouncement.announcement;
+        return queryFactory
+                .select(announcement.title)
+                .from(announcement)
+                .where(announcement.team.id.eq(teamId), announcement.occupationClassifications.any().in(WANTED))
+                .orderBy(announcement.timeStamp.createDate.desc(), announcement.id.desc())
+                .limit(PAGE_SIZE)
+                .fetch();
+    }
+
+    private long countByExists() {
+        QAnnouncement announcement = QAnnouncement.announcement;
+        Long count = queryFactory
+                .select(announcement.count())
+                .from(announcement)
+                .where(announcement.team.id.eq(teamId), announcement.occupationClassifications.any().in(WANTED))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+}
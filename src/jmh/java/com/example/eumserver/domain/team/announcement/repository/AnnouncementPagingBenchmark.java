@@ -0,0 +1,78 @@
+package com.example.eumserver.domain.team.announcement.repository;
+
+import com.example.eumserver.BenchmarkContext;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementCursor;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSlice;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 팀의 공고 100만 개에서 500번째 페이지(12개)를 offset + count로 읽을 때와 cursor로 읽을 때의 응답 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+public class AnnouncementPagingBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE = 500;
+    private static final int PAGE_SIZE = 12;
+    private static final AnnouncementFilter NO_FILTER = new AnnouncementFilter(false, List.of());
+
+    private BenchmarkContext context;
+    private AnnouncementRepository announcementRepository;
+    private Long teamId;
+    private AnnouncementCursor cursor;
+
+    @Setup
+    public void setUp() {
+        context = new BenchmarkContext();
+        announcementRepository = context.getBean(AnnouncementRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        teamId = context.getBean(TeamRepository.class).save(Team.builder().name("benchmark").build()).getId();
+        AnnouncementSeed.announcements(jdbcTemplate, teamId, ROWS);
+
+        // 앞 페이지의 마지막 공고, 클라이언트가 499번째 페이지까지 넘겨 받은 cursor와 같습니다.
+        cursor = jdbcTemplate.queryForObject("""
+                        SELECT create_date, team_announcement_id
+                        FROM team_announcements
+                        WHERE team_id = ?
+                        ORDER BY create_date DESC, team_announcement_id DESC
+                        LIMIT 1 OFFSET ?
+                        """,
+                (rs, rowNum) -> new AnnouncementCursor(AnnouncementSort.NEWEST,
+                        rs.getTimestamp("create_date").toLocalDateTime(), rs.getLong("team_announcement_id")),
+                teamId, PAGE * PAGE_SIZE - 1);
+        if (!offset().getContent().equals(cursor().content())) {
+            throw new IllegalStateException("offset and cursor pages differ");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<AnnouncementResponse> offset() {
+        return announcementRepository.getFilteredAnnouncementsWithPaging(
+                teamId, NO_FILTER, AnnouncementSort.NEWEST, PageRequest.of(PAGE, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public AnnouncementSlice cursor() {
+        return announcementRepository.getFilteredAnnouncementsWithCursor(
+                teamId, NO_FILTER, AnnouncementSort.NEWEST, cursor, PAGE_SIZE);
+    }
+}
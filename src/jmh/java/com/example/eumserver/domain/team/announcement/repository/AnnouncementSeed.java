@@ -0,0 +1,63 @@
+package com.example.eumserver.domain.team.announcement.repository;
+
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * benchmark용 공고를 JDBC로 한 번에 넣습니다.
+ */
+final class AnnouncementSeed {
+
+    private AnnouncementSeed() {
+    }
+
+    /**
+     * title은 title-{n}이며, n이 클수록 최신입니다. 생성 시각은 두 개씩 같아 ID로 순서가 정해집니다.
+     */
+    static void announcements(JdbcTemplate jdbcTemplate, Long teamId, int rows) {
+        jdbcTemplate.update("""
+                        INSERT INTO team_announcements
+                            (title, vacancies, description, team_id, date_expired, date_published, create_date, update_at, occupation_mask)
+                        WITH RECURSIVE digits (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM digits WHERE d < 9)
+                        SELECT CONCAT('title-', n), 1, 'description', ?, '2030-01-01', NOW(6),
+                               TIMESTAMP('2024-01-01') + INTERVAL (n DIV 2) SECOND, NOW(6), 0
+                        FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 + g.d * 100000 AS n
+                              FROM digits a, digits b, digits c, digits e, digits f, digits g) numbers
+                        WHERE n < ?
+                        """,
+                teamId, rows);
+        jdbcTemplate.execute("ANALYZE TABLE team_announcements");
+    }
+
+    /**
+     * 공고마다 ID로 정한 분류 한두 개를 collection table에 넣고, 같은 분류로 occupation_mask를 채웁니다.
+     */
+    static void occupationClassifications(JdbcTemplate jdbcTemplate, Long teamId) {
+        OccupationClassification[] values = OccupationClassification.values();
+        String names = Arrays.stream(values)
+                .map(value -> "'" + value.name() + "'")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.update("""
+                        INSERT INTO announcement_occupation_classifications
+                            (announcement_team_announcement_id, occupation_classifications)
+                        SELECT team_announcement_id, ELT(team_announcement_id %% %1$d + 1, %2$s)
+                        FROM team_announcements
+                        WHERE team_id = ?
+                        UNION ALL
+                        SELECT team_announcement_id, ELT((team_announcement_id DIV %1$d) %% %1$d + 1, %2$s)
+                        FROM team_announcements
+                        WHERE team_id = ? AND (team_announcement_id DIV %1$d) %% %1$d <> team_announcement_id %% %1$d
+                        """.formatted(values.length, names),
+                teamId, teamId);
+        jdbcTemplate.update("""
+                        UPDATE team_announcements
+                        SET occupation_mask = (1 << (team_announcement_id %% %1$d)) | (1 << ((team_announcement_id DIV %1$d) %% %1$d))
+                        WHERE team_id = ?
+                        """.formatted(values.length),
+                teamId);
+        jdbcTemplate.execute("ANALYZE TABLE team_announcements, announcement_occupation_classifications");
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 공개 이력서 10만 개의 점수를 매겨 상위 200개를 고르는 처리량, 순차 stream과 fork-join parallel stream 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnnouncementMatcherBenchmark {
+
+    private static final int RESUMES = 100_000;
+    private static final int CAPACITY = 200;
+
+    private List<AnnouncementMatcher.Profile> profiles;
+    private AnnouncementMatcher matcher;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> categories = List.of("development", "design", "planning", "marketing", "data");
+        List<String> subcategories = List.of("backend", "frontend", "android", "ios", "ui_ux", "devops");
+        List<String> certificates = IntStream.range(0, 200).mapToObj(i -> "certificate" + i).toList();
+        List<String> technologies = IntStream.range(0, 500).mapToObj(i -> "technology" + i).toList();
+
+        profiles = new ArrayList<>(RESUMES);
+        for (long id = 1; id <= RESUMES; id++) {
+            profiles.add(AnnouncementMatcher.profile(new ResumeSearchResult(id, id, "resume" + id,
+                    pick(random, categories), pick(random, subcategories), 4.0,
+                    picks(random, certificates, random.nextInt(4)), picks(random, technologies, 1 + random.nextInt(5)))));
+        }
+        matcher = new AnnouncementMatcher(
+                OccupationClassification.toMask(List.of(OccupationClassification.DEVELOPMENT_BACKEND)),
+                "백엔드 개발자 모집", "technology1, technology2, technology3 경험자 우대, certificate7 보유자");
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public AnnouncementMatcher.Ranking sequential() {
+        return matcher.rank(profiles.stream(), CAPACITY);
+    }
+
+    @Benchmark
+    public AnnouncementMatcher.Ranking parallel() {
+        return pool.submit(() -> matcher.rank(profiles.parallelStream(), CAPACITY)).join();
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<String> picks(Random random, List<String> values, int count) {
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(pick(random, values));
+        }
+        return picked;
+    }
+}
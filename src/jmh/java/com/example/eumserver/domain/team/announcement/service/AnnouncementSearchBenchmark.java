@@ -0,0 +1,87 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.BenchmarkContext;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSearchResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고 100만 개(절반은 게시 전)를 FULLTEXT(ngram) index로 검색하는 첫 페이지의 응답 시간
+ * 드문 검색어, 흔한 검색어, 흔한 검색어에 직종 필터를 더한 경우를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(1)
+public class AnnouncementSearchBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    private static final Map<String, String> QUERIES = Map.of(
+            "rare", "키워드042",
+            "common", "백엔드",
+            "common+occupation", "리액트");
+
+    @Param({"rare", "common", "common+occupation"})
+    public String query;
+
+    private BenchmarkContext context;
+    private AnnouncementService announcementService;
+    private String text;
+    private AnnouncementFilter filter;
+
+    @Setup
+    public void setUp() {
+        context = new BenchmarkContext();
+        announcementService = context.getBean(AnnouncementService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long teamId = context.getBean(TeamRepository.class).save(Team.builder().name("benchmark").build()).getId();
+
+        // 행마다 index를 갱신하지 않도록 index 없이 넣고 한 번에 다시 만듭니다.
+        jdbcTemplate.execute("ALTER TABLE team_announcements DROP INDEX " + AnnouncementSearchIndex.INDEX_NAME);
+        jdbcTemplate.update("""
+                        INSERT INTO team_announcements
+                            (title, vacancies, description, team_id, date_expired, date_published, create_date, update_at, occupation_mask)
+                        WITH RECURSIVE digits (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM digits WHERE d < 9)
+                        SELECT CONCAT(ELT(n % 8 + 1, '백엔드', '프론트엔드', '디자이너', '기획자', '마케터', '영상편집', '번역가', '데브옵스'),
+                                      ' 모집 ', n),
+                               1,
+                               CONCAT(ELT(n % 5 + 1, '스프링 서버 개발 경험', '리액트 화면 개발', '피그마 디자인 협업',
+                                          '광고 캠페인 운영', '유튜브 영상 제작'),
+                                      ' 프로젝트 키워드', LPAD(n % 1000, 3, '0')),
+                               ?, '2030-01-01', IF(n % 2 = 0, NOW(6), NULL), NOW(6), NOW(6), 1 << (n % 33)
+                        FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 + g.d * 100000 AS n
+                              FROM digits a, digits b, digits c, digits e, digits f, digits g) numbers
+                        WHERE n < ?
+                        """,
+                teamId, ROWS);
+        context.getBean(AnnouncementSearchIndex.class).rebuild();
+        jdbcTemplate.execute("ANALYZE TABLE team_announcements");
+
+        text = QUERIES.get(query);
+        filter = query.endsWith("+occupation")
+                ? new AnnouncementFilter(false, List.of(OccupationClassification.DEVELOPMENT_BACKEND))
+                : null;
+        if (search().content().isEmpty()) {
+            throw new IllegalStateException("no results for " + query);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AnnouncementSearchResponse search() {
+        return announcementService.searchAnnouncements(text, 0, filter);
+    }
+}
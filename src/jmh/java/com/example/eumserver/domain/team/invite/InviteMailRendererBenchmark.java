@@ -0,0 +1,80 @@
+package com.example.eumserver.domain.team.invite;
+
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초대 메일 한 통의 렌더링 비용
+ * thymeleafNoCache: spring.thymeleaf.cache=false 일 때처럼 매번 템플릿을 다시 파싱하는 기존 방식
+ * thymeleafCached: 파싱 결과를 캐시한 Thymeleaf
+ * precompiled: {@link InviteMailRenderer}, team 이름 memo 없이
+ * precompiledMemo: {@link InviteMailRenderer}, 같은 team의 초대를 연속으로 렌더링
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InviteMailRendererBenchmark {
+
+    private static final String TEAM_NAME = "이음 & <friends>";
+
+    private SpringTemplateEngine noCacheEngine;
+    private SpringTemplateEngine cachedEngine;
+    private InviteMailRenderer renderer;
+    private InviteMailRenderer memoRenderer;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        noCacheEngine = templateEngine(false);
+        cachedEngine = templateEngine(true);
+        renderer = new InviteMailRenderer(cachedEngine, 0);
+        memoRenderer = new InviteMailRenderer(cachedEngine, 1000);
+        token = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String thymeleafNoCache() {
+        return noCacheEngine.process("invite", context()) + "[이음] " + TEAM_NAME + " 팀에서 초대";
+    }
+
+    @Benchmark
+    public String thymeleafCached() {
+        return cachedEngine.process("invite", context()) + "[이음] " + TEAM_NAME + " 팀에서 초대";
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return renderer.html(TEAM_NAME, token) + renderer.subject(TEAM_NAME);
+    }
+
+    @Benchmark
+    public String precompiledMemo() {
+        return memoRenderer.html(TEAM_NAME, token) + memoRenderer.subject(TEAM_NAME);
+    }
+
+    private Context context() {
+        Context context = new Context();
+        context.setVariable("team_name", TEAM_NAME);
+        context.setVariable("token", token);
+        return context;
+    }
+
+    private static SpringTemplateEngine templateEngine(boolean cacheable) {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(cacheable);
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        return templateEngine;
+    }
+}
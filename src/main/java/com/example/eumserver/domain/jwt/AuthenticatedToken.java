@@ -0,0 +1,17 @@
+package com.example.eumserver.domain.jwt;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 검증된 토큰과 그로부터 만든 {@link Authentication}
+ * @see JwtAuthenticationCache
+ */
+public record AuthenticatedToken(
+        VerifiedToken token,
+        Authentication authentication
+) {
+
+    public static AuthenticatedToken of(VerifiedToken token) {
+        return new AuthenticatedToken(token, token.toAuthentication());
+    }
+}
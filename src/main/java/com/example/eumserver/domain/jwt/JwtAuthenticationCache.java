@@ -0,0 +1,126 @@
+package com.example.eumserver.domain.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증이 끝난 Access Token의 {@link AuthenticatedToken}을 보관하는 in-process 캐시
+ * 같은 토큰으로 반복해서 들어오는 요청은 서명 검증 없이 해시 조회 한 번으로 인증됩니다.
+ * 엔트리는 토큰의 만료 시각(exp)까지만 유효하며, 토큰 원문 대신 SHA-256 digest를 키로 사용합니다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private static final String METRIC_NAME = "jwt.authentication.cache";
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtAuthenticationCache(
+            @Value("${jwt.cache.max-size:10000}") int maxSize,
+            MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.hitCounter = Counter.builder(METRIC_NAME + ".requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME + ".requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param token Access Token 원문
+     * @return 캐시된 {@link AuthenticatedToken}, 없거나 만료되었으면 null
+     */
+    public AuthenticatedToken get(String token) {
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.authenticatedToken();
+    }
+
+    /**
+     * @param token              Access Token 원문
+     * @param authenticatedToken 검증된 토큰, 토큰의 만료 시각까지 캐시됩니다.
+     */
+    public void put(String token, AuthenticatedToken authenticatedToken) {
+        long now = System.currentTimeMillis();
+        long expiresAtInMs = authenticatedToken.token().expirationInMs();
+        if (maxSize <= 0 || expiresAtInMs <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(digest(token), new Entry(authenticatedToken, expiresAtInMs));
+    }
+
+    public void invalidate(String token) {
+        entries.remove(digest(token));
+    }
+
+    public long getHitCount() {
+        return (long) hitCounter.count();
+    }
+
+    public long getMissCount() {
+        return (long) missCounter.count();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 엔트리를 먼저 지우고, 그래도 가득 차 있으면 임의의 1/10을 비워 상한을 지킵니다.
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (toRemove-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(AuthenticatedToken authenticatedToken, long expiresAtInMs) {
+        boolean isExpired(long now) {
+            return now >= expiresAtInMs;
+        }
+    }
+}
@@ -6,8 +6,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,7 +19,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtAuthenticationCache authenticationCache;
+    private final TokenBlacklist tokenBlacklist;
 
     public static final String ATTRIBUTE_TOKEN_ERROR = "token_error";
 
@@ -32,9 +31,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         log.debug("receive access token: {}", accessToken);
 
         try {
-            if (StringUtils.hasText(accessToken) && !isTokenBlacked(accessToken) && tokenProvider.validateToken(accessToken)) {
-                Authentication authentication = tokenProvider.getAuthentication(accessToken);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (StringUtils.hasText(accessToken)) {
+                AuthenticatedToken authenticatedToken = authenticate(accessToken);
+                if (!tokenBlacklist.isRevoked(authenticatedToken.token(), accessToken)) {
+                    SecurityContextHolder.getContext().setAuthentication(authenticatedToken.authentication());
+                }
             }
         } catch (JwtTokenInvalidException jwtTokenInvalidException) {
             request.setAttribute(ATTRIBUTE_TOKEN_ERROR, jwtTokenInvalidException);
@@ -43,8 +44,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean isTokenBlacked(String accessToken) {
-        String isLogout = redisTemplate.opsForValue().get(accessToken);
-        return isLogout != null && isLogout.equals("logout");
+    /**
+     * 캐시에 검증된 토큰이 있으면 그대로 사용하고,
+     * 없으면 서명을 검증한 뒤 토큰의 만료 시각까지 캐시합니다.
+     * 로그아웃 여부는 jti로 판단하므로 캐시 여부와 관계없이 매번 확인합니다.
+     */
+    AuthenticatedToken authenticate(String accessToken) {
+        AuthenticatedToken cached = authenticationCache.get(accessToken);
+        if (cached != null) {
+            return cached;
+        }
+
+        AuthenticatedToken authenticatedToken = AuthenticatedToken.of(tokenProvider.verify(accessToken));
+        authenticationCache.put(accessToken, authenticatedToken);
+        return authenticatedToken;
     }
 }
@@ -1,9 +1,9 @@
 package com.example.eumserver.domain.jwt;
 
-import com.example.eumserver.domain.user.Name;
 import com.example.eumserver.global.utils.CookieUtils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -11,9 +11,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -21,21 +19,25 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
-    private final RedisTemplate<String, String> redisTemplate;
-
     private final Key jwtSecret;
 
+    /**
+     * 서명 키가 고정되어 있으므로 thread-safe한 parser 하나를 시작 시점에 만들어 재사용합니다.
+     */
+    private final JwtParser jwtParser;
+
     public static Long AC_EXPIRATION_IN_MS;
 
     public static Long RF_EXPIRATION_IN_MS;
@@ -44,13 +46,16 @@ public class JwtTokenProvider {
     private static final String CLAIM_NAME = "name";
     private static final String CLAIM_AVATAR = "avatar";
     private static final String CLAIM_AUTHORITIES = "authorities";
+    private static final String CLAIM_SESSION_ID = "sid";
     private static final String DELIMITER = ",";
 
+    private static final int TOKEN_ID_BYTES = 12;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     public JwtTokenProvider(
-            @Value("${jwt.secret}") String jwtSecretStr,
-            RedisTemplate<String, String> redisTemplate) {
+            @Value("${jwt.secret}") String jwtSecretStr) {
         this.jwtSecret = Keys.hmacShaKeyFor(jwtSecretStr.getBytes());
-        this.redisTemplate = redisTemplate;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(jwtSecret).build();
     }
 
     @Value("${jwt.token.access-expiration-time}")
@@ -70,6 +75,7 @@ public class JwtTokenProvider {
         long now = System.currentTimeMillis();
 
         return Jwts.builder()
+                .setId(newTokenId())
                 .setSubject(String.valueOf(principalDetails.getUserId()))
                 .claim(CLAIM_EMAIL, principalDetails.getEmail())
                 .claim(CLAIM_NAME, principalDetails.getName())
@@ -81,40 +87,73 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String generateRefreshToken(PrincipalDetails principalDetails) {
+    /**
+     * 새 로그인 세션의 Refresh Token을 만듭니다.
+     */
+    public RefreshToken generateRefreshToken(PrincipalDetails principalDetails) {
+        return generateRefreshToken(principalDetails, newTokenId());
+    }
+
+    /**
+     * 기존 세션을 이어가는 Refresh Token을 만들기만 합니다. 저장과 교체는 {@link RefreshTokenStore}가 담당합니다.
+     */
+    public RefreshToken generateRefreshToken(PrincipalDetails principalDetails, String sessionId) {
         String authorities = principalDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(DELIMITER));
         long now = System.currentTimeMillis();
+        long expirationInMs = now + RF_EXPIRATION_IN_MS;
+        String tokenId = newTokenId();
 
-        String refreshToken = Jwts.builder()
+        String value = Jwts.builder()
+                .setId(tokenId)
                 .setSubject(String.valueOf(principalDetails.getUserId()))
                 .claim(CLAIM_EMAIL, principalDetails.getEmail())
                 .claim(CLAIM_NAME, principalDetails.getName())
                 .claim(CLAIM_AVATAR, principalDetails.getAvatar())
                 .claim(CLAIM_AUTHORITIES, authorities)
+                .claim(CLAIM_SESSION_ID, sessionId)
                 .setIssuedAt(new Date(now))
-                .setExpiration(new Date(now + RF_EXPIRATION_IN_MS))
+                .setExpiration(new Date(expirationInMs))
                 .signWith(jwtSecret, SignatureAlgorithm.HS512)
                 .compact();
 
-        redisTemplate.opsForValue().set(
-                String.valueOf(principalDetails.getUserId()),
-                refreshToken,
-                RF_EXPIRATION_IN_MS,
-                TimeUnit.MILLISECONDS
-        );
-
-        return refreshToken;
+        return new RefreshToken(value, tokenId, sessionId, expirationInMs);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 만료를 검증하고, 검증된 Claim을 돌려줍니다.
+     * @throws JwtTokenInvalidException 토큰이 유효하지 않은 경우
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims;
         try {
-            Jwts.parserBuilder().setSigningKey(jwtSecret).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
             throw JwtTokenInvalidException.INSTANCE;
         }
+
+        List<GrantedAuthority> authorities =
+                Arrays.stream(claims.get(CLAIM_AUTHORITIES).toString().split(DELIMITER))
+                        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                        .toList();
+
+        return new VerifiedToken(
+                claims.getId(),
+                claims.get(CLAIM_SESSION_ID, String.class),
+                Long.parseLong(claims.getSubject()),
+                claims.get(CLAIM_EMAIL, String.class),
+                claims.get(CLAIM_NAME, String.class),
+                claims.get(CLAIM_AVATAR, String.class),
+                authorities,
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
+    }
+
+    public boolean validateToken(String token) {
+        verify(token);
+        return true;
     }
 
     /**
@@ -123,27 +162,20 @@ public class JwtTokenProvider {
      * @link https://velog.io/@tlatldms/%EC%84%9C%EB%B2%84%EA%B0%9C%EB%B0%9C%EC%BA%A0%ED%94%84-Spring-security-refreshing-JWT-DB%EC%A0%91%EA%B7%BC%EC%97%86%EC%9D%B4-%EC%9D%B8%EC%A6%9D%EA%B3%BC-%ED%8C%8C%EC%8B%B1%ED%95%98%EA%B8%B0
      */
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = this.parseClaims(accessToken);
-
-        long userId = Long.parseLong(claims.getSubject());
-        String email = claims.get(CLAIM_EMAIL, String.class);
-        Name name = new Name(claims.get(CLAIM_NAME, String.class), "");
-        String avatar = claims.get(CLAIM_AVATAR, String.class);
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(CLAIM_AUTHORITIES).toString().split(DELIMITER))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-        PrincipalDetails principalDetails = new PrincipalDetails(userId, email, name, avatar, authorities);
-        return new UsernamePasswordAuthenticationToken(principalDetails, null, authorities);
+        return verify(accessToken).toAuthentication();
     }
 
     public Claims parseClaims(String token) {
-       return Jwts.parserBuilder()
-                .setSigningKey(jwtSecret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 토큰마다 고유한 짧은 jti (96bit, base64url 16자)
+     */
+    private static String newTokenId() {
+        byte[] bytes = new byte[TOKEN_ID_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
     public String resolveAccessToken(HttpServletRequest request) {
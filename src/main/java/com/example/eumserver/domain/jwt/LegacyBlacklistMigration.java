@@ -0,0 +1,82 @@
+package com.example.eumserver.domain.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jti 도입 전 토큰 원문을 키로, 만료 없이 저장된 로그아웃 기록을 정리하는 일회성 작업
+ * 아직 유효한 토큰은 토큰의 만료 시각에 만료되도록 하고, 이미 만료되었거나 유효하지 않은 토큰은 바로 지웁니다.
+ * 완료되면 표시 키를 남겨 다음 기동부터는 실행하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyBlacklistMigration {
+
+    static final String MIGRATION_DONE_KEY = "migration:legacy-blacklist:done";
+
+    private static final long NO_EXPIRE = -1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(MIGRATION_DONE_KEY))) {
+                return;
+            }
+
+            int expiring = 0;
+            int deleted = 0;
+            for (String key : scanLegacyKeys()) {
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl == null || ttl != NO_EXPIRE) {
+                    continue;
+                }
+
+                try {
+                    VerifiedToken token = jwtTokenProvider.verify(key);
+                    redisTemplate.expireAt(key, token.expiration());
+                    expiring++;
+                } catch (JwtTokenInvalidException e) {
+                    redisTemplate.delete(key);
+                    deleted++;
+                }
+            }
+
+            redisTemplate.opsForValue().set(MIGRATION_DONE_KEY, String.valueOf(System.currentTimeMillis()));
+            log.info("legacy blacklist migration finished: {} expiring, {} deleted", expiring, deleted);
+        } catch (RuntimeException e) {
+            log.warn("legacy blacklist migration failed: {}", e.getMessage());
+        }
+    }
+
+    private List<String> scanLegacyKeys() {
+        ScanOptions options = ScanOptions.scanOptions().match(TokenBlacklist.LEGACY_KEY_PATTERN).count(1000).build();
+        List<String> keys = new ArrayList<>();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            }
+            return null;
+        });
+        return keys;
+    }
+}
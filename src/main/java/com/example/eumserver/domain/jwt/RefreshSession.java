@@ -0,0 +1,14 @@
+package com.example.eumserver.domain.jwt;
+
+/**
+ * 한 기기의 로그인 세션
+ * @see RefreshTokenStore#findSessions(long)
+ */
+public record RefreshSession(
+        String sessionId,
+        String userAgent,
+        long createdAtInMs,
+        long lastUsedAtInMs,
+        long expirationInMs
+) {
+}
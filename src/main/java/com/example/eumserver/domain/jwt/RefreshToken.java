@@ -0,0 +1,14 @@
+package com.example.eumserver.domain.jwt;
+
+/**
+ * 발급한 Refresh Token과 저장에 필요한 Claim
+ * 같은 sessionId로 이어지는 토큰들이 하나의 로그인 세션(token family)을 이룹니다.
+ * @see RefreshTokenStore
+ */
+public record RefreshToken(
+        String value,
+        String tokenId,
+        String sessionId,
+        long expirationInMs
+) {
+}
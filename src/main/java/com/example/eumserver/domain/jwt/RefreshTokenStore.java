@@ -0,0 +1,237 @@
+package com.example.eumserver.domain.jwt;
+
+import com.example.eumserver.global.config.RedisConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 로그인 세션(token family)과 각 세션의 현재 Refresh Token을 Redis에 보관합니다.
+ * <ul>
+ *     <li>{@code rt:user:{userId}} - 세션 ID의 sorted set, score는 세션 만료 시각</li>
+ *     <li>{@code rt:session:{sessionId}} - 현재 jti, 직전 jti, 생성/사용 시각, User-Agent(최대 200자)</li>
+ * </ul>
+ * 세션 수가 상한을 넘으면 만료가 가장 이른(가장 오래 쓰지 않은) 세션부터 ZPOPMIN으로 정리합니다.
+ * 모든 변경은 Lua script 하나로 Redis 서버에서 원자적으로 수행합니다.
+ * 교체는 항상 master에서 확인하고, 세션 목록 조회만 replica에서 읽습니다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    public enum Rotation {
+        ROTATED,
+        /**
+         * 세션이 없거나, 방금 다른 요청이 먼저 교체한 토큰
+         */
+        REJECTED,
+        /**
+         * 이미 교체된 토큰이 다시 사용되어 세션 전체를 폐기함
+         */
+        REUSED
+    }
+
+    private static final String USER_KEY_PREFIX = "rt:user:";
+    private static final String SESSION_KEY_PREFIX = "rt:session:";
+    private static final int USER_AGENT_MAX_LENGTH = 200;
+
+    /**
+     * KEYS[1] = user, KEYS[2] = session
+     * ARGV = sessionId, jti, 만료 시각, 현재 시각, User-Agent, 세션 상한, session key prefix
+     */
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[4])
+            redis.call('HSET', KEYS[2], 'jti', ARGV[2], 'createdAt', ARGV[4], 'lastUsedAt', ARGV[4], 'userAgent', ARGV[5])
+            redis.call('PEXPIREAT', KEYS[2], ARGV[3])
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            redis.call('PEXPIREAT', KEYS[1], ARGV[3])
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[6])
+            if overflow <= 0 then
+                return 0
+            end
+            local evicted = redis.call('ZPOPMIN', KEYS[1], overflow)
+            for i = 1, #evicted, 2 do
+                redis.call('DEL', ARGV[7] .. evicted[i])
+            end
+            return overflow
+            """, Long.class);
+
+    /**
+     * KEYS[1] = user, KEYS[2] = session
+     * ARGV = sessionId, 제시된 jti, 새 jti, 새 만료 시각, 현재 시각, 재사용 유예 시간(ms)
+     * 1 = 교체, 0 = 거절, -1 = 재사용 감지로 세션 폐기
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local session = redis.call('HMGET', KEYS[2], 'jti', 'prevJti', 'lastUsedAt')
+            if not session[1] then
+                return 0
+            end
+            if session[1] == ARGV[2] then
+                redis.call('HSET', KEYS[2], 'jti', ARGV[3], 'prevJti', ARGV[2], 'lastUsedAt', ARGV[5])
+                redis.call('PEXPIREAT', KEYS[2], ARGV[4])
+                redis.call('ZADD', KEYS[1], ARGV[4], ARGV[1])
+                redis.call('PEXPIREAT', KEYS[1], ARGV[4])
+                return 1
+            end
+            if session[2] == ARGV[2] and tonumber(ARGV[5]) - tonumber(session[3]) <= tonumber(ARGV[6]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            return -1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = user, KEYS[2] = session, ARGV[1] = sessionId
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 세션 도입 전에는 userId를 키로 토큰 원문 하나만 저장했습니다.
+     * KEYS[1] = userId, ARGV[1] = 토큰 원문
+     */
+    private static final RedisScript<Long> LEGACY_CONSUME_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> replicaRedisTemplate;
+    private final int maxSessionsPerUser;
+    private final long reuseGraceInMs;
+
+    public RefreshTokenStore(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier(RedisConfig.REPLICA_REDIS_TEMPLATE) RedisTemplate<String, String> replicaRedisTemplate,
+            @Value("${jwt.session.max-per-user:5}") int maxSessionsPerUser,
+            @Value("${jwt.session.reuse-grace-ms:10000}") long reuseGraceInMs) {
+        this.redisTemplate = redisTemplate;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.reuseGraceInMs = reuseGraceInMs;
+    }
+
+    /**
+     * 새 로그인 세션을 등록합니다. 상한을 넘으면 가장 오래된 세션이 정리됩니다.
+     * @return 정리된 세션 수
+     */
+    public long create(long userId, RefreshToken refreshToken, String userAgent) {
+        Long evicted = redisTemplate.execute(
+                CREATE_SCRIPT,
+                List.of(userKey(userId), sessionKey(refreshToken.sessionId())),
+                refreshToken.sessionId(),
+                refreshToken.tokenId(),
+                String.valueOf(refreshToken.expirationInMs()),
+                String.valueOf(System.currentTimeMillis()),
+                truncate(userAgent),
+                String.valueOf(maxSessionsPerUser),
+                SESSION_KEY_PREFIX);
+        return evicted == null ? 0 : evicted;
+    }
+
+    /**
+     * 세션의 현재 토큰이 {@code current}일 때만 {@code next}로 교체합니다.
+     * 이미 교체된 토큰이 다시 들어오면 탈취로 보고 세션 전체를 폐기합니다.
+     * 단, 직전 토큰이 유예 시간 안에 들어온 경우는 동시 재발급 경합으로 보고 거절만 합니다.
+     */
+    public Rotation rotate(VerifiedToken current, RefreshToken next) {
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(userKey(current.userId()), sessionKey(current.sessionId())),
+                current.sessionId(),
+                current.tokenId(),
+                next.tokenId(),
+                String.valueOf(next.expirationInMs()),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(reuseGraceInMs));
+        if (result == null || result == 0L) {
+            return Rotation.REJECTED;
+        }
+        return result == 1L ? Rotation.ROTATED : Rotation.REUSED;
+    }
+
+    /**
+     * 세션 도입 전에 발급된 Refresh Token을 한 번만 사용할 수 있도록 지웁니다.
+     * @return 저장된 토큰과 같아서 지웠으면 true
+     */
+    public boolean consumeLegacy(long userId, String refreshToken) {
+        Long consumed = redisTemplate.execute(
+                LEGACY_CONSUME_SCRIPT,
+                List.of(String.valueOf(userId)),
+                refreshToken);
+        return consumed != null && consumed == 1L;
+    }
+
+    /**
+     * replication 지연만큼 방금 만들거나 폐기한 세션이 반영되지 않을 수 있습니다.
+     */
+    public List<RefreshSession> findSessions(long userId) {
+        Set<ZSetOperations.TypedTuple<String>> sessionIds = replicaRedisTemplate.opsForZSet()
+                .rangeByScoreWithScores(userKey(userId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        if (sessionIds == null) {
+            return List.of();
+        }
+
+        List<RefreshSession> sessions = new ArrayList<>(sessionIds.size());
+        for (ZSetOperations.TypedTuple<String> sessionId : sessionIds) {
+            Map<Object, Object> session = replicaRedisTemplate.opsForHash().entries(sessionKey(sessionId.getValue()));
+            if (session.isEmpty() || sessionId.getScore() == null) {
+                continue;
+            }
+            sessions.add(new RefreshSession(
+                    sessionId.getValue(),
+                    (String) session.get("userAgent"),
+                    Long.parseLong((String) session.get("createdAt")),
+                    Long.parseLong((String) session.get("lastUsedAt")),
+                    sessionId.getScore().longValue()));
+        }
+        return sessions;
+    }
+
+    /**
+     * @return 사용자의 세션이 존재하여 폐기했으면 true
+     */
+    public boolean revoke(long userId, String sessionId) {
+        Long revoked = redisTemplate.execute(
+                REVOKE_SCRIPT,
+                List.of(userKey(userId), sessionKey(sessionId)),
+                sessionId);
+        return revoked != null && revoked == 1L;
+    }
+
+    public void deleteLegacy(long userId) {
+        redisTemplate.delete(String.valueOf(userId));
+    }
+
+    private static String userKey(long userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+
+    private static String sessionKey(String sessionId) {
+        return SESSION_KEY_PREFIX + sessionId;
+    }
+
+    private static String truncate(String userAgent) {
+        if (userAgent == null) {
+            return "";
+        }
+        return userAgent.length() <= USER_AGENT_MAX_LENGTH ? userAgent : userAgent.substring(0, USER_AGENT_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.eumserver.domain.jwt;
+
+import com.example.eumserver.global.config.RedisConfig;
+import com.example.eumserver.global.utils.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃된 Access Token 목록
+ * 거의 모든 토큰은 로그아웃되지 않으므로, 로컬 {@link BloomFilter}가 "있을 수도 있다"고 답한 경우에만 Redis를 조회합니다.
+ * 필터는 시작 시와 주기적으로 Redis를 SCAN하여 다시 만들고, 그 사이의 로그아웃은 pub/sub으로 모든 서버에 전파됩니다.
+ * 로그아웃 키는 토큰 원문 대신 {@code bl:{jti}} 이며, 토큰의 만료 시각에 함께 만료됩니다.
+ * 조회와 SCAN은 replica에서 읽습니다. replication 지연 동안 replica에 아직 없는 로그아웃은 pub/sub으로 채워진 필터가 있어도 놓칠 수 있으며,
+ * 이 간격은 보통 수 ms 이내입니다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "auth:blacklist";
+
+    private static final String KEY_PREFIX = "bl:";
+    private static final String REVOKED_VALUE = "1";
+
+    /**
+     * jti 도입 전에는 토큰 원문을 키로 저장했습니다. {@link LegacyBlacklistMigration}이 모두 만료시킬 때까지 함께 조회합니다.
+     */
+    static final String LEGACY_KEY_PATTERN = "eyJ*";
+    private static final String METRIC_NAME = "jwt.blacklist";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> replicaRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuildingFilter;
+
+    /**
+     * 최초 동기화 전에는 필터를 신뢰할 수 없으므로 항상 Redis를 조회합니다.
+     */
+    private volatile boolean synced = false;
+
+    private final Counter negativeCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter revokedCounter;
+
+    public TokenBlacklist(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier(RedisConfig.REPLICA_REDIS_TEMPLATE) RedisTemplate<String, String> replicaRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.blacklist.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.redisTemplate = redisTemplate;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+
+        this.negativeCounter = lookupCounter(meterRegistry, "negative");
+        this.falsePositiveCounter = lookupCounter(meterRegistry, "false_positive");
+        this.revokedCounter = lookupCounter(meterRegistry, "revoked");
+        Gauge.builder(METRIC_NAME + ".bloom.expected_fpp", this, blacklist -> blacklist.filter.expectedFalsePositiveProbability())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".bloom.observed_fpp", this, TokenBlacklist::observedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".bloom.insertions", this, blacklist -> blacklist.filter.getInsertions())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다른 서버에서 발생한 로그아웃을 받기 위해 channel을 구독합니다.
+     */
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * @param token       검증된 Access Token
+     * @param accessToken Access Token 원문, jti가 없는 예전 토큰의 키로 사용됩니다.
+     */
+    public boolean isRevoked(VerifiedToken token, String accessToken) {
+        String key = revocationKey(token, accessToken);
+        if (synced && !filter.mightContain(key)) {
+            negativeCounter.increment();
+            return false;
+        }
+
+        boolean revoked = replicaRedisTemplate.opsForValue().get(key) != null;
+        if (revoked) {
+            revokedCounter.increment();
+        } else if (synced) {
+            falsePositiveCounter.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * 토큰이 만료될 때까지만 차단합니다. 이미 만료된 토큰은 저장하지 않습니다.
+     */
+    public void revoke(VerifiedToken token, String accessToken) {
+        long ttl = token.expirationInMs() - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+
+        String key = revocationKey(token, accessToken);
+        redisTemplate.opsForValue().set(key, REVOKED_VALUE, ttl, TimeUnit.MILLISECONDS);
+        add(key);
+        redisTemplate.convertAndSend(CHANNEL, key);
+    }
+
+    static String revocationKey(VerifiedToken token, String accessToken) {
+        return token.tokenId() != null ? KEY_PREFIX + token.tokenId() : accessToken;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * Redis에 남아있는 로그아웃 토큰으로 필터를 새로 만듭니다.
+     * Bloom filter는 원소 삭제가 불가능하므로, 주기적인 재생성으로 만료된 토큰을 걸러냅니다.
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.rebuild-interval-ms:600000}",
+            fixedDelayString = "${jwt.blacklist.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        rebuildingFilter = next;
+        try {
+            scanInto(next, KEY_PREFIX + "*");
+            scanInto(next, LEGACY_KEY_PATTERN);
+            filter = next;
+            synced = true;
+            log.debug("token blacklist filter rebuilt with {} entries", next.getInsertions());
+        } catch (RuntimeException e) {
+            log.warn("failed to rebuild token blacklist filter: {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private void scanInto(BloomFilter target, String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+        replicaRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    target.put(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            }
+            return null;
+        });
+    }
+
+    private void add(String key) {
+        filter.put(key);
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(key);
+        }
+    }
+
+    /**
+     * 실제로 로그아웃되지 않은 토큰 중 필터가 양성으로 판단한 비율
+     */
+    private double observedFalsePositiveRate() {
+        double actualNegatives = falsePositiveCounter.count() + negativeCounter.count();
+        return actualNegatives == 0 ? 0 : falsePositiveCounter.count() / actualNegatives;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME + ".lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.eumserver.domain.jwt;
+
+import com.example.eumserver.domain.user.Name;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claim을 담는 불변 객체
+ * 한 번 파싱한 결과로 유효성 판단과 {@link Authentication} 생성을 모두 처리합니다.
+ * tokenId(jti)는 jti가 도입되기 전에 발급된 토큰이면 null 입니다.
+ * sessionId(sid)는 Refresh Token에만 있으며, 세션이 도입되기 전에 발급된 토큰이면 null 입니다.
+ * @see JwtTokenProvider#verify(String)
+ */
+public record VerifiedToken(
+        String tokenId,
+        String sessionId,
+        long userId,
+        String email,
+        String name,
+        String avatar,
+        List<GrantedAuthority> authorities,
+        Date issuedAt,
+        Date expiration
+) {
+
+    public VerifiedToken {
+        authorities = List.copyOf(authorities);
+        issuedAt = issuedAt == null ? null : new Date(issuedAt.getTime());
+        expiration = new Date(expiration.getTime());
+    }
+
+    @Override
+    public Date issuedAt() {
+        return issuedAt == null ? null : new Date(issuedAt.getTime());
+    }
+
+    @Override
+    public Date expiration() {
+        return new Date(expiration.getTime());
+    }
+
+    public long expirationInMs() {
+        return expiration.getTime();
+    }
+
+    public PrincipalDetails toPrincipalDetails() {
+        return new PrincipalDetails(userId, email, new Name(name, ""), avatar, authorities);
+    }
+
+    public Authentication toAuthentication() {
+        return new UsernamePasswordAuthenticationToken(toPrincipalDetails(), null, authorities);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.eumserver.domain.oauth2;
 
 import com.example.eumserver.domain.jwt.JwtTokenProvider;
+import com.example.eumserver.domain.jwt.PrincipalDetails;
+import com.example.eumserver.domain.oauth2.dto.SessionResponse;
 import com.example.eumserver.domain.oauth2.dto.TokenResponse;
 import com.example.eumserver.domain.oauth2.service.AuthService;
 import com.example.eumserver.global.utils.CookieUtils;
@@ -10,11 +12,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
@@ -44,5 +52,22 @@ public class AuthController {
                 .status(HttpStatus.NO_CONTENT)
                 .body("Successfully Logged out.");
     }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionResponse>> getSessions(
+            @AuthenticationPrincipal PrincipalDetails principalDetails,
+            HttpServletRequest request) {
+        String refreshToken = jwtTokenProvider.resolveRefreshToken(request);
+        List<SessionResponse> sessions = authService.getSessions(principalDetails.getUserId(), refreshToken);
+        return ResponseEntity.ok(sessions);
+    }
+
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<Void> revokeSession(
+            @AuthenticationPrincipal PrincipalDetails principalDetails,
+            @PathVariable String sessionId) {
+        authService.revokeSession(principalDetails.getUserId(), sessionId);
+        return ResponseEntity.noContent().build();
+    }
 }
 
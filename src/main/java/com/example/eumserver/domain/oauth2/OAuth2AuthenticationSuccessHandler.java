@@ -2,11 +2,14 @@ package com.example.eumserver.domain.oauth2;
 
 import com.example.eumserver.domain.jwt.JwtTokenProvider;
 import com.example.eumserver.domain.jwt.PrincipalDetails;
+import com.example.eumserver.domain.jwt.RefreshToken;
+import com.example.eumserver.domain.jwt.RefreshTokenStore;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -25,6 +28,7 @@ import static com.example.eumserver.global.utils.CookieUtils.addCookie;
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${oauth2.client.google.default.redirect-uri}")
     private String DEFAULT_REDIRECT_URI;
@@ -36,17 +40,18 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
 
         String accessToken = jwtTokenProvider.generateAccessToken(principalDetails);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(principalDetails);
+        RefreshToken refreshToken = jwtTokenProvider.generateRefreshToken(principalDetails);
+        refreshTokenStore.create(principalDetails.getUserId(), refreshToken, request.getHeader(HttpHeaders.USER_AGENT));
 
         String redirectUrlWithToken = UriComponentsBuilder.fromUriString(DEFAULT_REDIRECT_URI)
                 .queryParam(PARAM_ACCESS_TOKEN, accessToken)
                 .build().toUriString();
 
         log.debug("accessToken: {}", accessToken);
-        log.debug("refreshToken: {}", refreshToken);
+        log.debug("refreshToken: {}", refreshToken.value());
         log.debug("redirect_uri: {}", redirectUrlWithToken);
 
-        addCookie(response, COOKIE_REFRESH_TOKEN, refreshToken, (int) TimeUnit.MILLISECONDS.toSeconds(RF_EXPIRATION_IN_MS));
+        addCookie(response, COOKIE_REFRESH_TOKEN, refreshToken.value(), (int) TimeUnit.MILLISECONDS.toSeconds(RF_EXPIRATION_IN_MS));
         getRedirectStrategy().sendRedirect(request, response, redirectUrlWithToken);
     }
 
@@ -0,0 +1,13 @@
+package com.example.eumserver.domain.oauth2.dto;
+
+import java.time.LocalDateTime;
+
+public record SessionResponse(
+        String sessionId,
+        String userAgent,
+        LocalDateTime createdAt,
+        LocalDateTime lastUsedAt,
+        LocalDateTime expiresAt,
+        boolean current
+) {
+}
@@ -1,19 +1,29 @@
 package com.example.eumserver.domain.oauth2.service;
 
+import com.example.eumserver.domain.jwt.JwtTokenInvalidException;
 import com.example.eumserver.domain.jwt.JwtTokenProvider;
 import com.example.eumserver.domain.jwt.PrincipalDetails;
+import com.example.eumserver.domain.jwt.RefreshSession;
+import com.example.eumserver.domain.jwt.RefreshToken;
+import com.example.eumserver.domain.jwt.RefreshTokenStore;
+import com.example.eumserver.domain.jwt.TokenBlacklist;
+import com.example.eumserver.domain.jwt.VerifiedToken;
+import com.example.eumserver.domain.oauth2.dto.SessionResponse;
 import com.example.eumserver.domain.oauth2.dto.TokenResponse;
 import com.example.eumserver.global.error.CustomException;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.example.eumserver.domain.jwt.JwtTokenProvider.RF_EXPIRATION_IN_MS;
@@ -27,29 +37,21 @@ import static com.example.eumserver.global.utils.CookieUtils.addCookie;
 public class AuthService {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenBlacklist tokenBlacklist;
 
     public TokenResponse reissueToken(HttpServletRequest request, HttpServletResponse response) {
         String refreshToken = jwtTokenProvider.resolveRefreshToken(request);
-        jwtTokenProvider.validateToken(refreshToken);
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(refreshToken);
+        PrincipalDetails principalDetails = verifiedToken.toPrincipalDetails();
 
-        Authentication authentication = jwtTokenProvider.getAuthentication(refreshToken);
-        PrincipalDetails principalDetails;
+        RefreshToken newRefreshToken = rotate(
+                verifiedToken, principalDetails, refreshToken, request.getHeader(HttpHeaders.USER_AGENT));
 
-        if (authentication.getPrincipal() instanceof PrincipalDetails) {
-            principalDetails = (PrincipalDetails) authentication.getPrincipal();
-        } else throw new CustomException(401, "No refresh token");
-
-        String redisRefreshToken = redisTemplate.opsForValue().get(String.valueOf(principalDetails.getUserId()));
-        if (redisRefreshToken == null || !redisRefreshToken.equals(refreshToken)) {
-            throw new CustomException(403, "Refresh Token is invalid");
-        }
-
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(principalDetails);
         addCookie(
                 response,
                 COOKIE_REFRESH_TOKEN,
-                newRefreshToken,
+                newRefreshToken.value(),
                 (int) TimeUnit.MILLISECONDS.toSeconds(RF_EXPIRATION_IN_MS));
 
         return new TokenResponse(
@@ -62,11 +64,86 @@ public class AuthService {
             throw new CustomException(400, "Refresh Token not exists");
         }
 
-        Claims claims = jwtTokenProvider.parseClaims(refreshToken);
-        String userId = claims.getSubject();
-        redisTemplate.opsForValue().getAndDelete(userId);
+        VerifiedToken verifiedToken = jwtTokenProvider.verify(refreshToken);
+        if (verifiedToken.sessionId() != null) {
+            refreshTokenStore.revoke(verifiedToken.userId(), verifiedToken.sessionId());
+        } else {
+            refreshTokenStore.deleteLegacy(verifiedToken.userId());
+        }
+
+        if (StringUtils.hasText(accessToken)) {
+            try {
+                tokenBlacklist.revoke(jwtTokenProvider.verify(accessToken), accessToken);
+            } catch (JwtTokenInvalidException e) {
+                // 이미 만료되었거나 유효하지 않은 Access Token은 차단할 필요가 없습니다.
+            }
+        }
+    }
+
+    /**
+     * @param refreshToken 요청한 기기의 Refresh Token, 현재 세션을 표시하는 데만 사용합니다.
+     */
+    public List<SessionResponse> getSessions(long userId, String refreshToken) {
+        String currentSessionId = currentSessionId(refreshToken);
+        return refreshTokenStore.findSessions(userId).stream()
+                .map(session -> toSessionResponse(session, session.sessionId().equals(currentSessionId)))
+                .toList();
+    }
+
+    /**
+     * 세션의 Refresh Token만 폐기합니다. 이미 발급된 Access Token은 만료될 때까지 유효합니다.
+     */
+    public void revokeSession(long userId, String sessionId) {
+        if (!refreshTokenStore.revoke(userId, sessionId)) {
+            throw new CustomException(404, "Session not found");
+        }
+    }
+
+    private RefreshToken rotate(
+            VerifiedToken verifiedToken, PrincipalDetails principalDetails, String refreshToken, String userAgent) {
+        if (verifiedToken.sessionId() == null) {
+            if (!refreshTokenStore.consumeLegacy(verifiedToken.userId(), refreshToken)) {
+                throw new CustomException(403, "Refresh Token is invalid");
+            }
+            RefreshToken newRefreshToken = jwtTokenProvider.generateRefreshToken(principalDetails);
+            refreshTokenStore.create(verifiedToken.userId(), newRefreshToken, userAgent);
+            return newRefreshToken;
+        }
+
+        RefreshToken newRefreshToken = jwtTokenProvider.generateRefreshToken(principalDetails, verifiedToken.sessionId());
+        switch (refreshTokenStore.rotate(verifiedToken, newRefreshToken)) {
+            case ROTATED -> {
+                return newRefreshToken;
+            }
+            case REUSED -> {
+                log.warn("refresh token reuse detected, session {} of user {} revoked",
+                        verifiedToken.sessionId(), verifiedToken.userId());
+                throw new CustomException(403, "Refresh Token is invalid");
+            }
+            default -> throw new CustomException(403, "Refresh Token is invalid");
+        }
+    }
+
+    private String currentSessionId(String refreshToken) {
+        try {
+            return jwtTokenProvider.verify(refreshToken).sessionId();
+        } catch (JwtTokenInvalidException e) {
+            return null;
+        }
+    }
+
+    private static SessionResponse toSessionResponse(RefreshSession session, boolean current) {
+        return new SessionResponse(
+                session.sessionId(),
+                session.userAgent(),
+                toLocalDateTime(session.createdAtInMs()),
+                toLocalDateTime(session.lastUsedAtInMs()),
+                toLocalDateTime(session.expirationInMs()),
+                current);
+    }
 
-        redisTemplate.opsForValue().set(accessToken, "logout");
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
     }
 
 }
@@ -0,0 +1,10 @@
+package com.example.eumserver.domain.resume;
+
+/**
+ * 이력서가 생성, 수정, 삭제되었음을 알리는 event
+ * commit 이후 공개 이력서 검색 index에 반영됩니다.
+ */
+public record ResumeChangedEvent(
+        Long resumeId
+) {
+}
@@ -2,7 +2,11 @@ package com.example.eumserver.domain.resume;
 
 import com.example.eumserver.domain.jwt.PrincipalDetails;
 import com.example.eumserver.domain.resume.dto.ResumeRequest;
+import com.example.eumserver.domain.resume.dto.ResumeResponse;
+import com.example.eumserver.domain.resume.dto.ResumeSearchFilter;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResponse;
 import com.example.eumserver.domain.resume.entity.Resume;
+import com.example.eumserver.global.utils.ConditionalRequestUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -13,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -26,6 +31,7 @@ import java.util.List;
 @Tag(name = "Resume", description = "Resume CRUD API")
 public class ResumeController {
     private final ResumeService resumeService;
+    private final ResumeSearchService resumeSearchService;
 
     @PostMapping("")
     @Operation(summary = "이력서 생성", description = "유저에 이력서를 작성하는 API, Homepage Enum Type은 Schema 참조", parameters = {
@@ -36,10 +42,10 @@ public class ResumeController {
                     required = true)
     })
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "이력서 작성 성공", content = @Content(schema = @Schema(implementation = Resume.class)))
+            @ApiResponse(responseCode = "201", description = "이력서 작성 성공", content = @Content(schema = @Schema(implementation = ResumeResponse.class)))
     })
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Resume> createResume(
+    public ResponseEntity<ResumeResponse> createResume(
             @AuthenticationPrincipal PrincipalDetails principalDetails,
             @RequestBody @Valid ResumeRequest resumeRequest
     ) {
@@ -47,7 +53,7 @@ public class ResumeController {
         Resume resume = resumeService.postResume(resumeRequest, userId);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(resume);
+                .body(ResumeMapper.INSTANCE.resumeToResponse(resume));
     }
 
     @PutMapping("/{resumeId}")
@@ -59,17 +65,18 @@ public class ResumeController {
                     required = true)
     })
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "이력서 수정 성공", content = @Content(schema = @Schema(implementation = Resume.class)))
+            @ApiResponse(responseCode = "200", description = "이력서 수정 성공", content = @Content(schema = @Schema(implementation = ResumeResponse.class)))
     })
-    public ResponseEntity<Resume> updateResume(
+    public ResponseEntity<ResumeResponse> updateResume(
             @AuthenticationPrincipal PrincipalDetails principalDetails,
             @PathVariable("resumeId") long resumeId,
             @RequestBody @Valid ResumeRequest resumeRequest
     ) {
         long userId = principalDetails.getUserId();
         Resume resume = resumeService.updateResume(resumeRequest, resumeId, userId);
+        // 강제로 올린 version은 commit할 때 반영되므로 service가 끝난 뒤에 응답으로 바꿉니다.
         return ResponseEntity
-                .ok(resume);
+                .ok(ResumeMapper.INSTANCE.resumeToResponse(resume));
     }
 
     @DeleteMapping("/{resumeId}")
@@ -84,7 +91,7 @@ public class ResumeController {
             @ApiResponse(responseCode = "202", description = "이력서 삭제 성공")
     })
     @ResponseStatus(HttpStatus.ACCEPTED)
-    public ResponseEntity<Resume> deleteResume(
+    public ResponseEntity<Void> deleteResume(
             @AuthenticationPrincipal PrincipalDetails principalDetails,
             @PathVariable("resumeId") long resumeId,
             @RequestBody @Valid ResumeRequest resumeRequest
@@ -107,13 +114,41 @@ public class ResumeController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "이력서 받아오기 성공")
     })
-    public ResponseEntity<List<Resume>> getAllMyResume(
-            @AuthenticationPrincipal PrincipalDetails principalDetails
+    public ResponseEntity<List<ResumeResponse>> getAllMyResume(
+            @AuthenticationPrincipal PrincipalDetails principalDetails,
+            @RequestHeader HttpHeaders headers
     ) {
         long userId = principalDetails.getUserId();
-        List<Resume> resumes = resumeService.getAllMyResume(userId);
-        return ResponseEntity
-                .ok(resumes);
+        return ConditionalRequestUtils.get(
+                headers,
+                resumeService.getAllMyResumeVersion(userId),
+                () -> resumeService.getAllMyResume(userId));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "공개 이력서 검색", description = "직무, 세부 직무, 학점 범위, 자격증, 사용 기술로 공개 이력서를 최근 등록 순으로 검색하는 API, 조건마다 값별 이력서 수(facet)를 함께 제공", parameters = {
+            @Parameter(name = "Authorization",
+                    description = "Access Token",
+                    in = ParameterIn.HEADER,
+                    schema = @Schema(type = "string"),
+                    required = true)
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "이력서 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 학점 범위 또는 페이지")
+    })
+    public ResponseEntity<ResumeSearchResponse> searchResumes(
+            @RequestParam(name = "jobCategory", required = false) String jobCategory,
+            @RequestParam(name = "jobSubcategory", required = false) String jobSubcategory,
+            @RequestParam(name = "minGpa", required = false) Double minGpa,
+            @RequestParam(name = "maxGpa", required = false) Double maxGpa,
+            @RequestParam(name = "certificate", required = false) List<String> certificates,
+            @RequestParam(name = "technology", required = false) List<String> technologies,
+            @RequestParam(name = "page", defaultValue = "0") Integer page,
+            @RequestParam(name = "size", defaultValue = "" + ResumeSearchService.DEFAULT_PAGE_SIZE) Integer size
+    ) {
+        ResumeSearchFilter filter = new ResumeSearchFilter(jobCategory, jobSubcategory, minGpa, maxGpa, certificates, technologies);
+        return ResponseEntity.ok(resumeSearchService.search(filter, page, size));
     }
 
     @GetMapping("/user/{userId}")
@@ -121,12 +156,14 @@ public class ResumeController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "이력서 받아오기 성공")
     })
-    public ResponseEntity<List<Resume>> getAllMyResume(
-            @PathVariable("userId") long userId
+    public ResponseEntity<List<ResumeResponse>> getAllMyResume(
+            @PathVariable("userId") long userId,
+            @RequestHeader HttpHeaders headers
     ) {
-        List<Resume> resumes = resumeService.getAllUserResume(userId);
-        return ResponseEntity
-                .ok(resumes);
+        return ConditionalRequestUtils.get(
+                headers,
+                resumeService.getAllUserResumeVersion(userId),
+                () -> resumeService.getAllUserResume(userId));
     }
 
     @GetMapping("/{resumeId}")
@@ -134,14 +171,15 @@ public class ResumeController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "이력서 받아오기 성공")
     })
-    public ResponseEntity<Resume> getResume(
+    public ResponseEntity<ResumeResponse> getResume(
             @AuthenticationPrincipal PrincipalDetails principalDetails,
-            @PathVariable("resumeId") long resumeId
+            @PathVariable("resumeId") long resumeId,
+            @RequestHeader HttpHeaders headers
     ) {
-        long userId = 0;
-        if (principalDetails != null) userId = principalDetails.getUserId();
-        Resume resume = resumeService.getResume(userId, resumeId);
-        return ResponseEntity
-                .ok(resume);
+        long userId = principalDetails == null ? 0 : principalDetails.getUserId();
+        return ConditionalRequestUtils.get(
+                headers,
+                resumeService.getResumeVersion(userId, resumeId),
+                () -> resumeService.getResume(userId, resumeId));
     }
 }
@@ -0,0 +1,12 @@
+package com.example.eumserver.domain.resume;
+
+/**
+ * 공개 이력서 전체로 검색 index를 새로 만들었음을 알리는 event
+ * 그 사이 유실된 변경이 있을 수 있으므로, 이력서로부터 만든 값은 다시 만듭니다.
+ *
+ * @param size 색인된 공개 이력서 수
+ */
+public record ResumeIndexRebuiltEvent(
+        int size
+) {
+}
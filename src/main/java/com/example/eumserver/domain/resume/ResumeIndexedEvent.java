@@ -0,0 +1,15 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+
+/**
+ * 이력서 변경이 이 서버의 검색 index에 반영되었음을 알리는 event
+ * 다른 서버에서 바뀐 이력서도 pub/sub으로 다시 읽은 뒤 발행됩니다.
+ *
+ * @param document 반영된 이력서, 비공개로 바뀌었거나 삭제되었으면 null
+ */
+public record ResumeIndexedEvent(
+        Long resumeId,
+        ResumeSearchResult document
+) {
+}
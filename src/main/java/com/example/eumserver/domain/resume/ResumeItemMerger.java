@@ -0,0 +1,88 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.domain.resume.dto.ResumeActivityRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCareerRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCertificateRequest;
+import com.example.eumserver.domain.resume.dto.ResumeHomepageRequest;
+import com.example.eumserver.domain.resume.dto.ResumeProjectRequest;
+import com.example.eumserver.domain.resume.dto.ResumeRequest;
+import com.example.eumserver.domain.resume.entity.Resume;
+import com.example.eumserver.domain.resume.entity.ResumeActivity;
+import com.example.eumserver.domain.resume.entity.ResumeCareer;
+import com.example.eumserver.domain.resume.entity.ResumeCertificate;
+import com.example.eumserver.domain.resume.entity.ResumeHomepage;
+import com.example.eumserver.domain.resume.entity.ResumeProject;
+import com.example.eumserver.global.error.CustomException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 이력서 수정 요청의 하위 항목을 ID로 기존 행과 맞춥니다.
+ * <ul>
+ *     <li>ID가 있는 항목은 기존 엔티티의 값만 바꾸므로, 값이 실제로 바뀐 행만 dirty checking으로 UPDATE 됩니다.</li>
+ *     <li>ID가 없는 항목은 새로 INSERT 합니다.</li>
+ *     <li>요청에 없는 기존 항목은 collection에서 빼서 orphanRemoval로 DELETE 합니다.</li>
+ * </ul>
+ * 모든 행을 지우고 다시 넣지 않으므로 제목만 고치면 하위 항목에는 query가 나가지 않습니다.
+ */
+final class ResumeItemMerger {
+
+    private ResumeItemMerger() {
+    }
+
+    static void merge(Resume resume, ResumeRequest request) {
+        ResumeMapper mapper = ResumeMapper.INSTANCE;
+        merge(resume, resume.getCareers(), request.careers(),
+                ResumeCareer::getId, ResumeCareerRequest::id, ResumeCareer::update, mapper::careerRequestToCareer, ResumeCareer::setResume);
+        merge(resume, resume.getActivities(), request.activities(),
+                ResumeActivity::getId, ResumeActivityRequest::id, ResumeActivity::update, mapper::activityRequestToActivity, ResumeActivity::setResume);
+        merge(resume, resume.getCertificates(), request.certificates(),
+                ResumeCertificate::getId, ResumeCertificateRequest::id, ResumeCertificate::update, mapper::certificateRequestToCertificate, ResumeCertificate::setResume);
+        merge(resume, resume.getProjects(), request.projects(),
+                ResumeProject::getId, ResumeProjectRequest::id, ResumeProject::update, mapper::projectRequestToProject, ResumeProject::setResume);
+        merge(resume, resume.getHomepages(), request.homepages(),
+                ResumeHomepage::getId, ResumeHomepageRequest::id, ResumeHomepage::update, mapper::homepageRequestToHomepage, ResumeHomepage::setResume);
+    }
+
+    /**
+     * @param requested 비어 있거나 null이면 기존 항목을 모두 지웁니다.
+     */
+    private static <E, R> void merge(
+            Resume resume,
+            List<E> current,
+            List<R> requested,
+            Function<E, Long> idOf,
+            Function<R, Long> requestIdOf,
+            BiConsumer<E, R> update,
+            Function<R, E> create,
+            BiConsumer<E, Resume> link) {
+        Map<Long, E> unmatched = new HashMap<>();
+        current.forEach(item -> unmatched.put(idOf.apply(item), item));
+
+        List<E> added = new ArrayList<>();
+        for (R item : requested == null ? List.<R>of() : requested) {
+            Long id = requestIdOf.apply(item);
+            if (id == null) {
+                E created = create.apply(item);
+                link.accept(created, resume);
+                added.add(created);
+                continue;
+            }
+
+            // 다른 이력서의 항목이거나 같은 ID가 두 번 들어온 경우입니다.
+            E existing = unmatched.remove(id);
+            if (existing == null) {
+                throw new CustomException(400, "Resume item not found.");
+            }
+            update.accept(existing, item);
+        }
+
+        current.removeIf(item -> unmatched.containsKey(idOf.apply(item)));
+        current.addAll(added);
+    }
+}
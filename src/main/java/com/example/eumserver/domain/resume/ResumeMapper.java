@@ -1,13 +1,31 @@
 package com.example.eumserver.domain.resume;
 
+import com.example.eumserver.domain.resume.dto.ResumeActivityRequest;
+import com.example.eumserver.domain.resume.dto.ResumeActivityResponse;
+import com.example.eumserver.domain.resume.dto.ResumeCareerRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCareerResponse;
+import com.example.eumserver.domain.resume.dto.ResumeCertificateRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCertificateResponse;
+import com.example.eumserver.domain.resume.dto.ResumeHomepageRequest;
+import com.example.eumserver.domain.resume.dto.ResumeHomepageResponse;
+import com.example.eumserver.domain.resume.dto.ResumeProjectRequest;
+import com.example.eumserver.domain.resume.dto.ResumeProjectResponse;
 import com.example.eumserver.domain.resume.dto.ResumeRequest;
+import com.example.eumserver.domain.resume.dto.ResumeResponse;
 import com.example.eumserver.domain.resume.entity.Resume;
+import com.example.eumserver.domain.resume.entity.ResumeActivity;
+import com.example.eumserver.domain.resume.entity.ResumeCareer;
+import com.example.eumserver.domain.resume.entity.ResumeCertificate;
+import com.example.eumserver.domain.resume.entity.ResumeHomepage;
+import com.example.eumserver.domain.resume.entity.ResumeProject;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.factory.Mappers;
 
+import java.util.List;
+
 @Mapper
 public interface ResumeMapper {
     ResumeMapper INSTANCE = Mappers.getMapper(ResumeMapper.class);
@@ -24,6 +42,73 @@ public interface ResumeMapper {
     @Mapping(source = "isPublic", target = "isPublic")
     Resume resumeRequestToResume(ResumeRequest resumeRequest);
 
+    /**
+     * 하위 항목의 ID는 수정할 때 기존 행을 찾는 데만 쓰며, 새 엔티티에는 넣지 않습니다.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "resume", ignore = true)
+    ResumeCareer careerRequestToCareer(ResumeCareerRequest resumeCareerRequest);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "resume", ignore = true)
+    ResumeActivity activityRequestToActivity(ResumeActivityRequest resumeActivityRequest);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "resume", ignore = true)
+    @Mapping(source = "certificate_url", target = "certificateUrl")
+    ResumeCertificate certificateRequestToCertificate(ResumeCertificateRequest resumeCertificateRequest);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "resume", ignore = true)
+    ResumeProject projectRequestToProject(ResumeProjectRequest resumeProjectRequest);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "resume", ignore = true)
+    ResumeHomepage homepageRequestToHomepage(ResumeHomepageRequest resumeHomepageRequest);
+
+    /**
+     * 이력서의 하위 collection을 모두 읽습니다. 이미 하위 항목이 메모리에 있는 생성, 수정 응답에서 사용합니다.
+     */
+    ResumeResponse resumeToResponse(Resume resume);
+
+    /**
+     * 따로 읽어 둔 하위 항목으로 응답을 만들며, 이력서의 lazy collection은 건드리지 않습니다.
+     */
+    default ResumeResponse resumeToResponse(
+            Resume resume,
+            List<ResumeCareerResponse> careers,
+            List<ResumeActivityResponse> activities,
+            List<ResumeCertificateResponse> certificates,
+            List<ResumeProjectResponse> projects,
+            List<ResumeHomepageResponse> homepages) {
+        return new ResumeResponse(
+                resume.getId(),
+                resume.getTitle(),
+                resume.getJobCategory(),
+                resume.getJobSubcategory(),
+                resume.getGpa(),
+                resume.getTotalScore(),
+                careers,
+                activities,
+                certificates,
+                projects,
+                homepages,
+                resume.getIntroduction(),
+                resume.getIsPublic(),
+                resume.getTimeStamp(),
+                resume.getVersion());
+    }
+
+    ResumeCareerResponse careerToResponse(ResumeCareer resumeCareer);
+
+    ResumeActivityResponse activityToResponse(ResumeActivity resumeActivity);
+
+    ResumeCertificateResponse certificateToResponse(ResumeCertificate resumeCertificate);
+
+    ResumeProjectResponse projectToResponse(ResumeProject resumeProject);
+
+    ResumeHomepageResponse homepageToResponse(ResumeHomepage resumeHomepage);
+
     @AfterMapping
     default void linkResume(ResumeRequest resumeRequest, @MappingTarget Resume resume) {
         if (resume.getActivities() != null) {
@@ -1,12 +1,74 @@
 package com.example.eumserver.domain.resume;
 
+import com.example.eumserver.domain.resume.dto.ResumeVersion;
 import com.example.eumserver.domain.resume.entity.Resume;
+import com.example.eumserver.domain.resume.entity.ResumeActivity;
+import com.example.eumserver.domain.resume.entity.ResumeCareer;
+import com.example.eumserver.domain.resume.entity.ResumeCertificate;
+import com.example.eumserver.domain.resume.entity.ResumeHomepage;
+import com.example.eumserver.domain.resume.entity.ResumeProject;
+import com.example.eumserver.global.entity.ResourceVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserId(Long userId);
 
     List<Resume> findByUserIdAndIsPublicTrue(Long userId);
+
+    /**
+     * 검색 index를 다시 만들 때 공개 이력서를 ID 순으로 나눠 읽습니다.
+     */
+    @Query("select r from Resume r where r.isPublic = true and r.id > :afterId order by r.id")
+    List<Resume> findPublicAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 여러 이력서의 하위 항목을 종류마다 한 번에 읽습니다. 이력서 ID로 묶는 것은 호출하는 쪽에서 합니다.
+     */
+    @Query("select c from ResumeCareer c where c.resume.id in :resumeIds order by c.id")
+    List<ResumeCareer> findCareersByResumeIdIn(@Param("resumeIds") Collection<Long> resumeIds);
+
+    @Query("select a from ResumeActivity a where a.resume.id in :resumeIds order by a.id")
+    List<ResumeActivity> findActivitiesByResumeIdIn(@Param("resumeIds") Collection<Long> resumeIds);
+
+    @Query("select c from ResumeCertificate c where c.resume.id in :resumeIds order by c.id")
+    List<ResumeCertificate> findCertificatesByResumeIdIn(@Param("resumeIds") Collection<Long> resumeIds);
+
+    @Query("select p from ResumeProject p where p.resume.id in :resumeIds order by p.id")
+    List<ResumeProject> findProjectsByResumeIdIn(@Param("resumeIds") Collection<Long> resumeIds);
+
+    @Query("select h from ResumeHomepage h where h.resume.id in :resumeIds order by h.id")
+    List<ResumeHomepage> findHomepagesByResumeIdIn(@Param("resumeIds") Collection<Long> resumeIds);
+
+    /**
+     * 경력, 활동 등 하위 항목만 바뀌어도 commit 시 version이 올라갑니다.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select r from Resume r where r.id = :id")
+    Optional<Resume> findByIdIncrementingVersion(@Param("id") Long id);
+
+    @Query("select new com.example.eumserver.domain.resume.dto.ResumeVersion(r.version, r.isPublic, r.user.id) " +
+            "from Resume r where r.id = :id")
+    Optional<ResumeVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 목록의 validator, 이력서가 추가/삭제되거나 하나라도 수정되면 바뀝니다.
+     */
+    @Query("select new com.example.eumserver.global.entity.ResourceVersion(concat(" +
+            "cast(count(r) as String), '-', cast(coalesce(sum(r.version), 0) as String), '-', cast(coalesce(max(r.id), 0) as String))) " +
+            "from Resume r where r.user.id = :userId")
+    ResourceVersion findListVersionByUserId(@Param("userId") Long userId);
+
+    @Query("select new com.example.eumserver.global.entity.ResourceVersion(concat(" +
+            "cast(count(r) as String), '-', cast(coalesce(sum(r.version), 0) as String), '-', cast(coalesce(max(r.id), 0) as String))) " +
+            "from Resume r where r.user.id = :userId and r.isPublic = true")
+    ResourceVersion findPublicListVersionByUserId(@Param("userId") Long userId);
 }
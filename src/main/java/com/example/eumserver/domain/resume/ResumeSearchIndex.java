@@ -0,0 +1,443 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.domain.resume.dto.ResumeFacetCount;
+import com.example.eumserver.domain.resume.dto.ResumeSearchFilter;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResponse;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 공개 이력서의 in-process 역색인
+ * 이력서마다 색인된 순서대로 순번을 붙이고, 직무, 세부 직무, 자격증, 사용 기술의 값마다 그 값을 가진 순번을 정렬된 배열(posting)로 둡니다.
+ * 검색은 가장 짧은 posting을 뒤에서부터 따라가며 나머지 posting과 학점 범위를 확인하고, 맞는 이력서의 facet을 함께 셉니다.
+ * 삭제된 순번은 다시 쓰지 않으므로 {@link ResumeSearchService}가 주기적으로 새로 만듭니다.
+ * 검색은 동시에 여러 개, 변경은 하나씩 수행합니다.
+ */
+class ResumeSearchIndex {
+
+    enum Field {
+        JOB_CATEGORY("jobCategory"),
+        JOB_SUBCATEGORY("jobSubcategory"),
+        CERTIFICATE("certificates"),
+        TECHNOLOGY("technologies");
+
+        private final String facetName;
+
+        Field(String facetName) {
+            this.facetName = facetName;
+        }
+    }
+
+    private static final int FACET_SIZE = 10;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int[] NO_TERMS = new int[0];
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private ResumeSearchResult[] documents = new ResumeSearchResult[INITIAL_CAPACITY];
+    private long[] resumeIds = new long[INITIAL_CAPACITY];
+    private double[] gpas = new double[INITIAL_CAPACITY];
+
+    /**
+     * 순번별 term ID, facet을 셀 때와 수정, 삭제할 때 posting을 찾는 데 사용합니다.
+     */
+    private int[][] documentTerms = new int[INITIAL_CAPACITY][];
+    private int nextOrdinal;
+
+    /**
+     * field와 정규화한 값으로 term ID를 찾습니다. term ID는 아래 목록의 위치입니다.
+     */
+    private final Map<Field, Map<String, Integer>> termIds = new EnumMap<>(Field.class);
+    private final List<Field> termFields = new ArrayList<>();
+    private final List<String> termValues = new ArrayList<>();
+    private final List<Postings> postings = new ArrayList<>();
+
+    ResumeSearchIndex() {
+        for (Field field : Field.values()) {
+            termIds.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * 이력서를 추가하거나, 이미 있으면 바뀐 값의 posting만 고칩니다.
+     */
+    void put(ResumeSearchResult document) {
+        lock.writeLock().lock();
+        try {
+            int[] terms = termsOf(document);
+            Integer ordinal = ordinals.get(document.id());
+            if (ordinal == null) {
+                ordinal = nextOrdinal++;
+                ensureCapacity(nextOrdinal);
+                ordinals.put(document.id(), ordinal);
+                documentTerms[ordinal] = NO_TERMS;
+            }
+
+            int[] previous = documentTerms[ordinal];
+            for (int term : previous) {
+                if (Arrays.binarySearch(terms, term) < 0) {
+                    postings.get(term).remove(ordinal);
+                }
+            }
+            for (int term : terms) {
+                if (Arrays.binarySearch(previous, term) < 0) {
+                    postings.get(term).add(ordinal);
+                }
+            }
+
+            documents[ordinal] = document;
+            resumeIds[ordinal] = document.id();
+            gpas[ordinal] = document.gpa() == null ? Double.NaN : document.gpa();
+            documentTerms[ordinal] = terms;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long resumeId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(resumeId);
+            if (ordinal == null) {
+                return;
+            }
+            for (int term : documentTerms[ordinal]) {
+                postings.get(term).remove(ordinal);
+            }
+            documents[ordinal] = null;
+            documentTerms[ordinal] = NO_TERMS;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 이력서를 색인된 순서로 복사합니다.
+     */
+    List<ResumeSearchResult> documents() {
+        lock.readLock().lock();
+        try {
+            List<ResumeSearchResult> copied = new ArrayList<>(ordinals.size());
+            for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+                if (documents[ordinal] != null) {
+                    copied.add(documents[ordinal]);
+                }
+            }
+            return copied;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param page 0부터 시작, {@code (page + 1) * size}개의 상위 결과만 유지하므로 깊은 페이지는 호출하는 쪽에서 막습니다.
+     */
+    ResumeSearchResponse search(ResumeSearchFilter filter, int page, int size) {
+        lock.readLock().lock();
+        try {
+            List<Postings> required = new ArrayList<>();
+            boolean satisfiable = require(required, Field.JOB_CATEGORY, filter.jobCategory())
+                    && require(required, Field.JOB_SUBCATEGORY, filter.jobSubcategory())
+                    && requireAll(required, Field.CERTIFICATE, filter.certificates())
+                    && requireAll(required, Field.TECHNOLOGY, filter.technologies());
+
+            Matches matches = new Matches(filter, (page + 1) * size);
+            if (!satisfiable) {
+                return matches.toResponse(page, size);
+            }
+
+            if (required.isEmpty()) {
+                for (int ordinal = nextOrdinal - 1; ordinal >= 0; ordinal--) {
+                    if (documents[ordinal] != null) {
+                        matches.offer(ordinal);
+                    }
+                }
+                return matches.toResponse(page, size);
+            }
+
+            required.sort(Comparator.comparingInt(Postings::size));
+            Postings driver = required.get(0);
+            int[] ends = new int[required.size()];
+            for (int i = 1; i < required.size(); i++) {
+                ends[i] = required.get(i).size;
+            }
+
+            candidates:
+            for (int position = driver.size - 1; position >= 0; position--) {
+                int ordinal = driver.ordinals[position];
+                for (int i = 1; i < required.size(); i++) {
+                    // 순번을 내림차순으로 보므로 다음 확인은 이번에 찾은 위치 앞에서만 합니다.
+                    int found = Arrays.binarySearch(required.get(i).ordinals, 0, ends[i], ordinal);
+                    ends[i] = found >= 0 ? found : -found - 1;
+                    if (ends[i] == 0 && found < 0) {
+                        break candidates;
+                    }
+                    if (found < 0) {
+                        continue candidates;
+                    }
+                }
+                matches.offer(ordinal);
+            }
+            return matches.toResponse(page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 소문자로 바꾸고 앞뒤 공백을 지우며, 연속된 공백은 하나로 합칩니다. 비어 있으면 null
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * @return 값이 없어 조건을 적용하지 않거나 그 값의 posting을 추가했으면 true, 색인된 적 없는 값이면 false
+     */
+    private boolean require(List<Postings> required, Field field, String value) {
+        String normalized = normalize(value);
+        if (normalized == null) {
+            return true;
+        }
+        Integer term = termIds.get(field).get(normalized);
+        if (term == null || postings.get(term).size == 0) {
+            return false;
+        }
+        required.add(postings.get(term));
+        return true;
+    }
+
+    private boolean requireAll(List<Postings> required, Field field, List<String> values) {
+        if (values == null) {
+            return true;
+        }
+        for (String value : values) {
+            if (!require(required, field, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 이력서가 가진 값의 term ID, 정렬되어 있고 중복이 없습니다.
+     */
+    private int[] termsOf(ResumeSearchResult document) {
+        return Stream.of(
+                        Stream.of(term(Field.JOB_CATEGORY, document.jobCategory())),
+                        Stream.of(term(Field.JOB_SUBCATEGORY, document.jobSubcategory())),
+                        valuesOf(document.certificates()).map(value -> term(Field.CERTIFICATE, value)),
+                        valuesOf(document.technologies()).map(value -> term(Field.TECHNOLOGY, value)))
+                .flatMap(terms -> terms)
+                .filter(term -> term >= 0)
+                .mapToInt(Integer::intValue)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    private static Stream<String> valuesOf(List<String> values) {
+        return values == null ? Stream.empty() : values.stream();
+    }
+
+    /**
+     * @return 값이 비어 있으면 -1
+     */
+    private int term(Field field, String value) {
+        String normalized = normalize(value);
+        if (normalized == null) {
+            return -1;
+        }
+        return termIds.get(field).computeIfAbsent(normalized, key -> {
+            termFields.add(field);
+            termValues.add(key);
+            postings.add(new Postings());
+            return postings.size() - 1;
+        });
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= documents.length) {
+            return;
+        }
+        int grown = Math.max(capacity, documents.length * 2);
+        documents = Arrays.copyOf(documents, grown);
+        resumeIds = Arrays.copyOf(resumeIds, grown);
+        gpas = Arrays.copyOf(gpas, grown);
+        documentTerms = Arrays.copyOf(documentTerms, grown);
+    }
+
+    /**
+     * 한 값을 가진 이력서 순번의 정렬된 배열
+     * 새 이력서는 가장 큰 순번이므로 추가는 보통 끝에 붙입니다.
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+            ordinals[position] = ordinal;
+            size++;
+        }
+
+        void remove(int ordinal) {
+            int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ordinals, position + 1, ordinals, position, size - position - 1);
+            size--;
+        }
+    }
+
+    /**
+     * 조건에 맞는 이력서를 세고, facet을 세며, 이력서 ID가 큰 순으로 {@code window}개만 min-heap에 남깁니다.
+     * 순번을 내림차순으로 넘기면 ID가 큰 이력서가 먼저 들어오므로 heap은 거의 바뀌지 않습니다.
+     */
+    private final class Matches {
+
+        private final double minGpa;
+        private final double maxGpa;
+        private final boolean gpaFiltered;
+        private final int[] heap;
+        private final int[] termCounts = new int[postings.size()];
+        private int heapSize;
+        private int totalCount;
+
+        Matches(ResumeSearchFilter filter, int window) {
+            this.minGpa = filter.minGpa() == null ? Double.NEGATIVE_INFINITY : filter.minGpa();
+            this.maxGpa = filter.maxGpa() == null ? Double.POSITIVE_INFINITY : filter.maxGpa();
+            this.gpaFiltered = filter.minGpa() != null || filter.maxGpa() != null;
+            this.heap = new int[window];
+        }
+
+        void offer(int ordinal) {
+            // 학점이 없으면 NaN이므로 범위 비교가 모두 false 입니다.
+            if (gpaFiltered && !(gpas[ordinal] >= minGpa && gpas[ordinal] <= maxGpa)) {
+                return;
+            }
+            totalCount++;
+            for (int term : documentTerms[ordinal]) {
+                termCounts[term]++;
+            }
+
+            if (heapSize < heap.length) {
+                heap[heapSize] = ordinal;
+                siftUp(heapSize++);
+            } else if (heap.length > 0 && resumeIds[ordinal] > resumeIds[heap[0]]) {
+                heap[0] = ordinal;
+                siftDown(0);
+            }
+        }
+
+        ResumeSearchResponse toResponse(int page, int size) {
+            int[] sorted = Arrays.copyOf(heap, heapSize);
+            List<ResumeSearchResult> content = IntStream.of(sorted)
+                    .boxed()
+                    .sorted(Comparator.comparingLong((Integer ordinal) -> resumeIds[ordinal]).reversed())
+                    .skip((long) page * size)
+                    .map(ordinal -> documents[ordinal])
+                    .toList();
+            return new ResumeSearchResponse(content, page, totalCount, totalCount > (page + 1) * size, facets());
+        }
+
+        private Map<String, List<ResumeFacetCount>> facets() {
+            Map<Field, List<Integer>> termsByField = new EnumMap<>(Field.class);
+            for (int term = 0; term < termCounts.length; term++) {
+                if (termCounts[term] > 0) {
+                    termsByField.computeIfAbsent(termFields.get(term), field -> new ArrayList<>()).add(term);
+                }
+            }
+
+            Map<String, List<ResumeFacetCount>> facets = new LinkedHashMap<>();
+            for (Field field : Field.values()) {
+                facets.put(field.facetName, termsByField.getOrDefault(field, List.of()).stream()
+                        .sorted(Comparator.comparingInt((Integer term) -> termCounts[term]).reversed()
+                                .thenComparing(termValues::get))
+                        .limit(FACET_SIZE)
+                        .map(term -> new ResumeFacetCount(termValues.get(term), termCounts[term]))
+                        .toList());
+            }
+            return facets;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (resumeIds[heap[parent]] <= resumeIds[heap[index]]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = index * 2 + 1;
+                int right = left + 1;
+                if (left < heapSize && resumeIds[heap[left]] < resumeIds[heap[smallest]]) {
+                    smallest = left;
+                }
+                if (right < heapSize && resumeIds[heap[right]] < resumeIds[heap[smallest]]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(smallest, index);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int ordinal = heap[i];
+            heap[i] = heap[j];
+            heap[j] = ordinal;
+        }
+    }
+}
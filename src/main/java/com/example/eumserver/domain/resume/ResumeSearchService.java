@@ -0,0 +1,255 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.domain.resume.dto.ResumeSearchFilter;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResponse;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import com.example.eumserver.domain.resume.entity.Resume;
+import com.example.eumserver.domain.resume.entity.ResumeCareer;
+import com.example.eumserver.domain.resume.entity.ResumeCertificate;
+import com.example.eumserver.global.error.CustomException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 공개 이력서 검색
+ * 검색은 {@link ResumeSearchIndex}만 사용하므로 MySQL을 거치지 않습니다.
+ * 이력서가 바뀌면 commit 이후 MySQL에서 다시 읽어 index에 반영하고, {@link #CHANNEL}로 다른 서버에도 다시 읽도록 알립니다.
+ * 시작할 때와 주기적으로 공개 이력서 전체로 index를 새로 만들어, 유실된 메시지와 삭제로 비어 있는 순번을 정리합니다.
+ * 반영한 변경은 {@link ResumeIndexedEvent}, 새로 만든 index는 {@link ResumeIndexRebuiltEvent}로 알립니다.
+ */
+@Slf4j
+@Service
+public class ResumeSearchService implements MessageListener {
+
+    public static final String CHANNEL = "resume:index";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_RESULT_WINDOW = 1000;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final String DELIMITER = "|";
+    private static final Pattern TECHNOLOGY_DELIMITER = Pattern.compile("[,/\\n]");
+
+    private final ResumeRepository resumeRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 자신이 발행한 메시지는 이미 반영했으므로 무시합니다.
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile ResumeSearchIndex index = new ResumeSearchIndex();
+
+    /**
+     * 재구성하는 동안 반영한 이력서, 재구성 중이 아니면 null
+     * 재구성이 먼저 읽은 이전 상태로 덮어쓸 수 있으므로, 새 index로 바꾼 뒤 MySQL에서 다시 읽어 반영합니다.
+     */
+    private volatile Set<Long> changedDuringRebuild;
+
+    public ResumeSearchService(
+            ResumeRepository resumeRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.resumeRepository = resumeRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.eventPublisher = eventPublisher;
+        // commit 이후에 호출되므로 끝난 transaction에 참여하지 않도록 새로 시작합니다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public ResumeSearchResponse search(ResumeSearchFilter filter, int page, int size) {
+        if (filter.minGpa() != null && filter.maxGpa() != null && filter.minGpa() > filter.maxGpa()) {
+            throw new CustomException(400, "Invalid gpa range.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (page < 0 || (long) (page + 1) * pageSize > MAX_RESULT_WINDOW) {
+            throw new CustomException(400, "Page out of range.");
+        }
+        return index.search(filter, page, pageSize);
+    }
+
+    /**
+     * 색인된 공개 이력서 전체, 추천처럼 모든 이력서를 훑어야 하는 곳에서 사용합니다.
+     */
+    public List<ResumeSearchResult> documents() {
+        return index.documents();
+    }
+
+    /**
+     * 색인된 공개 이력서 수
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 반영에 실패해도 이력서 변경은 이미 commit되었으므로 요청을 실패시키지 않습니다. 다음 재생성 때 반영됩니다.
+     */
+    @TransactionalEventListener
+    public void onChanged(ResumeChangedEvent event) {
+        try {
+            refresh(event.resumeId());
+            redisTemplate.convertAndSend(CHANNEL, instanceId + DELIMITER + event.resumeId());
+        } catch (RuntimeException e) {
+            log.warn("failed to update resume search index for {}: {}", event.resumeId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 바뀐 이력서를 MySQL에서 다시 읽습니다. 메시지 순서와 관계없이 마지막으로 commit된 상태가 반영됩니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(DELIMITER);
+        if (delimiter < 0 || body.substring(0, delimiter).equals(instanceId)) {
+            return;
+        }
+        try {
+            refresh(Long.parseLong(body.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            log.warn("failed to apply resume search index message {}: {}", body, e.getMessage());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * 공개 이력서 전체로 index를 새로 만들어 바꿉니다. 만드는 동안 바뀐 이력서는 바꾼 뒤에 다시 반영합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${resume.search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${resume.search.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        ResumeSearchIndex next = new ResumeSearchIndex();
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            long afterId = 0L;
+            List<ResumeSearchResult> documents;
+            while (!(documents = loadPublicAfter(afterId)).isEmpty()) {
+                documents.forEach(next::put);
+                afterId = documents.get(documents.size() - 1).id();
+            }
+            index = next;
+            changedDuringRebuild = null;
+            eventPublisher.publishEvent(new ResumeIndexRebuiltEvent(next.size()));
+            changed.forEach(this::refresh);
+            log.info("resume search index rebuilt with {} resumes in {} ms ({} changed meanwhile)",
+                    next.size(), System.currentTimeMillis() - startedAt, changed.size());
+        } catch (RuntimeException e) {
+            log.warn("failed to rebuild resume search index: {}", e.getMessage());
+        } finally {
+            changedDuringRebuild = null;
+        }
+    }
+
+    private void refresh(long resumeId) {
+        // MySQL에서 읽기 전에 기록해야, 재구성이 이보다 늦게 읽은 batch로 덮어써도 다시 반영됩니다.
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(resumeId);
+        }
+        List<ResumeSearchResult> documents = transactionTemplate.execute(status -> toDocuments(
+                resumeRepository.findById(resumeId).filter(resume -> Boolean.TRUE.equals(resume.getIsPublic())).stream().toList()));
+        ResumeSearchResult document = documents == null || documents.isEmpty() ? null : documents.get(0);
+        if (document == null) {
+            index.remove(resumeId);
+        } else {
+            index.put(document);
+        }
+        eventPublisher.publishEvent(new ResumeIndexedEvent(resumeId, document));
+    }
+
+    private List<ResumeSearchResult> loadPublicAfter(long afterId) {
+        return transactionTemplate.execute(status -> toDocuments(
+                resumeRepository.findPublicAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE))));
+    }
+
+    /**
+     * 경력과 자격증은 이력서 수와 관계없이 종류마다 한 번에 읽습니다.
+     */
+    private List<ResumeSearchResult> toDocuments(List<Resume> resumes) {
+        if (resumes.isEmpty()) return List.of();
+        List<Long> resumeIds = resumes.stream().map(Resume::getId).toList();
+        Map<Long, List<String>> technologies = groupByResumeId(
+                resumeRepository.findCareersByResumeIdIn(resumeIds), ResumeCareer::getResume,
+                career -> splitTechnologies(career.getTechnologiesUsed()));
+        Map<Long, List<String>> certificates = groupByResumeId(
+                resumeRepository.findCertificatesByResumeIdIn(resumeIds), ResumeCertificate::getResume,
+                certificate -> Stream.ofNullable(certificate.getTitle()));
+
+        return resumes.stream()
+                .map(resume -> new ResumeSearchResult(
+                        resume.getId(),
+                        resume.getUser().getId(),
+                        resume.getTitle(),
+                        resume.getJobCategory(),
+                        resume.getJobSubcategory(),
+                        resume.getGpa(),
+                        certificates.getOrDefault(resume.getId(), List.of()),
+                        technologies.getOrDefault(resume.getId(), List.of())))
+                .toList();
+    }
+
+    private static <E> Map<Long, List<String>> groupByResumeId(
+            List<E> children, Function<E, Resume> resumeOf, Function<E, Stream<String>> valuesOf) {
+        return children.stream().collect(Collectors.groupingBy(
+                child -> resumeOf.apply(child).getId(),
+                Collectors.flatMapping(valuesOf, Collectors.collectingAndThen(Collectors.toList(),
+                        values -> values.stream().distinct().toList()))));
+    }
+
+    private static Stream<String> splitTechnologies(String technologiesUsed) {
+        if (technologiesUsed == null) return Stream.empty();
+        return Arrays.stream(TECHNOLOGY_DELIMITER.split(technologiesUsed))
+                .map(String::trim)
+                .filter(technology -> !technology.isEmpty());
+    }
+}
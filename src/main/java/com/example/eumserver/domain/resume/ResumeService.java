@@ -1,16 +1,33 @@
 package com.example.eumserver.domain.resume;
 
+import com.example.eumserver.domain.resume.dto.ResumeActivityResponse;
+import com.example.eumserver.domain.resume.dto.ResumeCareerResponse;
+import com.example.eumserver.domain.resume.dto.ResumeCertificateResponse;
+import com.example.eumserver.domain.resume.dto.ResumeHomepageResponse;
+import com.example.eumserver.domain.resume.dto.ResumeProjectResponse;
 import com.example.eumserver.domain.resume.dto.ResumeRequest;
+import com.example.eumserver.domain.resume.dto.ResumeResponse;
+import com.example.eumserver.domain.resume.dto.ResumeVersion;
 import com.example.eumserver.domain.resume.entity.Resume;
+import com.example.eumserver.domain.resume.entity.ResumeActivity;
+import com.example.eumserver.domain.resume.entity.ResumeCareer;
+import com.example.eumserver.domain.resume.entity.ResumeCertificate;
+import com.example.eumserver.domain.resume.entity.ResumeHomepage;
+import com.example.eumserver.domain.resume.entity.ResumeProject;
 import com.example.eumserver.domain.user.User;
 import com.example.eumserver.domain.user.UserRepository;
+import com.example.eumserver.global.entity.ResourceVersion;
 import com.example.eumserver.global.error.CustomException;
 import com.example.eumserver.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +36,7 @@ public class ResumeService {
 
     private final UserRepository userRepository;
     private final ResumeRepository resumeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Resume postResume(ResumeRequest resumeRequest, long userId) {
@@ -27,6 +45,7 @@ public class ResumeService {
         Resume resume = ResumeMapper.INSTANCE.resumeRequestToResume(resumeRequest);
         resume.setUser(user);
         resumeRepository.save(resume);
+        eventPublisher.publishEvent(new ResumeChangedEvent(resume.getId()));
         return resume;
     }
 
@@ -34,16 +53,16 @@ public class ResumeService {
     public Resume updateResume(ResumeRequest resumeRequest, long resumeId, long userId) {
         userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found."));
-        Resume resume = resumeRepository.findById(resumeId)
+        Resume resume = resumeRepository.findByIdIncrementingVersion(resumeId)
                 .orElseThrow(() -> new EntityNotFoundException("Resume not found."));
 
         if (resume.getUser().getId() != userId) throw new CustomException(403, "No Autorization");
 
-        Resume updatedResume = ResumeMapper.INSTANCE.resumeRequestToResume(resumeRequest);
-        resume.updateResume(updatedResume.getTitle(), updatedResume.getJobCategory(), updatedResume.getJobSubcategory(),
-                updatedResume.getGpa(), updatedResume.getTotalScore(), updatedResume.getCareers(), updatedResume.getActivities(),
-                updatedResume.getCertificates(), updatedResume.getProjects(), updatedResume.getHomepages(), updatedResume.getIsPublic());
+        resume.updateResume(resumeRequest.title(), resumeRequest.jobCategory(), resumeRequest.jobSubcategory(),
+                resumeRequest.gpa(), resumeRequest.totalScore(), resumeRequest.isPublic());
+        ResumeItemMerger.merge(resume, resumeRequest);
         resumeRepository.save(resume);
+        eventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
 
         return resume;
     }
@@ -57,30 +76,97 @@ public class ResumeService {
 
         if (resume.getUser().getId() != userId) throw new CustomException(403, "No Autorization");
         resumeRepository.deleteById(resumeId);
+        eventPublisher.publishEvent(new ResumeChangedEvent(resumeId));
     }
 
-    public List<Resume> getAllMyResume(long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found."));
+    public List<ResumeResponse> getAllMyResume(long userId) {
+        if (!userRepository.existsById(userId)) throw new EntityNotFoundException("User not found.");
         List<Resume> resumes = resumeRepository.findByUserId(userId);
-        return resumes;
+        return toResponses(resumes);
     }
 
-    public List<Resume> getAllUserResume(long userId) {
-        userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found."));
+    public List<ResumeResponse> getAllUserResume(long userId) {
+        if (!userRepository.existsById(userId)) throw new EntityNotFoundException("User not found.");
         List<Resume> resumes = resumeRepository.findByUserIdAndIsPublicTrue(userId);
-        return resumes;
+        return toResponses(resumes);
     }
 
-    public Resume getResume(long userId, long resumeId) {
+    /**
+     * 조건부 조회용 version, 사용자가 없으면 null
+     */
+    public ResourceVersion getAllMyResumeVersion(long userId) {
+        if (!userRepository.existsById(userId)) return null;
+        return resumeRepository.findListVersionByUserId(userId);
+    }
+
+    public ResourceVersion getAllUserResumeVersion(long userId) {
+        if (!userRepository.existsById(userId)) return null;
+        return resumeRepository.findPublicListVersionByUserId(userId);
+    }
+
+    /**
+     * 조건부 조회용 version, 이력서가 없으면 null
+     * 비공개 이력서는 304로도 존재를 알리지 않도록 {@link #getResume}과 같이 권한을 확인합니다.
+     */
+    public ResourceVersion getResumeVersion(long userId, long resumeId) {
+        ResumeVersion resumeVersion = resumeRepository.findVersionById(resumeId).orElse(null);
+        if (resumeVersion == null) return null;
+
+        if (!resumeVersion.isPublic() && (userId == 0 || userId != resumeVersion.userId())) {
+            throw new CustomException(403, "No Autorization");
+        }
+        return new ResourceVersion(resumeVersion.version());
+    }
+
+    public ResumeResponse getResume(long userId, long resumeId) {
         Resume resume = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new EntityNotFoundException("Resume not found."));
 
         if (!resume.getIsPublic() && (userId == 0 || userId != resume.getUser().getId())) {
             throw new CustomException(403, "No Autorization");
         }
-        return resume;
+        return toResponses(List.of(resume)).get(0);
+    }
+
+    /**
+     * 이력서들의 하위 항목을 종류마다 한 번씩, 이력서 수와 관계없이 다섯 번의 query로 읽어 응답을 만듭니다.
+     * 이력서의 lazy collection은 건드리지 않으므로 직렬화 중에 query가 더 나가지 않습니다.
+     */
+    private List<ResumeResponse> toResponses(List<Resume> resumes) {
+        if (resumes.isEmpty()) return List.of();
+        List<Long> resumeIds = resumes.stream().map(Resume::getId).toList();
+        ResumeMapper mapper = ResumeMapper.INSTANCE;
+
+        Map<Long, List<ResumeCareerResponse>> careers = groupByResumeId(
+                resumeRepository.findCareersByResumeIdIn(resumeIds), ResumeCareer::getResume, mapper::careerToResponse);
+        Map<Long, List<ResumeActivityResponse>> activities = groupByResumeId(
+                resumeRepository.findActivitiesByResumeIdIn(resumeIds), ResumeActivity::getResume, mapper::activityToResponse);
+        Map<Long, List<ResumeCertificateResponse>> certificates = groupByResumeId(
+                resumeRepository.findCertificatesByResumeIdIn(resumeIds), ResumeCertificate::getResume, mapper::certificateToResponse);
+        Map<Long, List<ResumeProjectResponse>> projects = groupByResumeId(
+                resumeRepository.findProjectsByResumeIdIn(resumeIds), ResumeProject::getResume, mapper::projectToResponse);
+        Map<Long, List<ResumeHomepageResponse>> homepages = groupByResumeId(
+                resumeRepository.findHomepagesByResumeIdIn(resumeIds), ResumeHomepage::getResume, mapper::homepageToResponse);
+
+        return resumes.stream()
+                .map(resume -> mapper.resumeToResponse(
+                        resume,
+                        careers.getOrDefault(resume.getId(), List.of()),
+                        activities.getOrDefault(resume.getId(), List.of()),
+                        certificates.getOrDefault(resume.getId(), List.of()),
+                        projects.getOrDefault(resume.getId(), List.of()),
+                        homepages.getOrDefault(resume.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * 하위 항목의 resume은 같은 transaction에서 읽은 이력서이므로 ID를 읽어도 query가 나가지 않습니다.
+     */
+    private static <E, R> Map<Long, List<R>> groupByResumeId(
+            List<E> children, Function<E, Resume> resumeOf, Function<E, R> toResponse) {
+        return children.stream().collect(Collectors.groupingBy(
+                child -> resumeOf.apply(child).getId(),
+                Collectors.mapping(toResponse, Collectors.toList())));
     }
 
 }
@@ -0,0 +1,13 @@
+package com.example.eumserver.domain.resume.dto;
+
+import java.time.LocalDate;
+
+public record ResumeActivityResponse(
+        Long id,
+        String title,
+        LocalDate startDate,
+        LocalDate endDate,
+        String activityUrl,
+        String introduction
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.eumserver.domain.resume.dto;
+
+import java.time.LocalDate;
+
+public record ResumeCareerResponse(
+        Long id,
+        String companyName,
+        String companyRole,
+        LocalDate startDate,
+        LocalDate endDate,
+        String technologiesUsed,
+        String companyWebsiteUrl,
+        String achievement
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.eumserver.domain.resume.dto;
+
+import java.time.LocalDate;
+
+public record ResumeCertificateResponse(
+        Long id,
+        String title,
+        LocalDate startDate,
+        LocalDate endDate,
+        String certificateUrl,
+        String introduction
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.eumserver.domain.resume.dto;
+
+/**
+ * @param value 소문자로 정규화한 값, 그대로 검색 조건에 넣을 수 있습니다.
+ * @param count 검색 결과 중 이 값을 가진 이력서 수
+ */
+public record ResumeFacetCount(
+        String value,
+        int count
+) {
+}
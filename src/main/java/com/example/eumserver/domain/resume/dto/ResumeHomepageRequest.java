@@ -3,7 +3,11 @@ package com.example.eumserver.domain.resume.dto;
 import com.example.eumserver.domain.resume.entity.HomepageType;
 import jakarta.validation.constraints.NotBlank;
 
+/**
+ * @param id 수정할 기존 항목의 ID, 새 항목은 null
+ */
 public record ResumeHomepageRequest(
+        Long id,
         @NotBlank HomepageType homepageType,
         String homepageUrl
 ) {
@@ -0,0 +1,10 @@
+package com.example.eumserver.domain.resume.dto;
+
+import com.example.eumserver.domain.resume.entity.HomepageType;
+
+public record ResumeHomepageResponse(
+        Long id,
+        HomepageType homepageType,
+        String homepageUrl
+) {
+}
@@ -4,7 +4,11 @@ import jakarta.validation.constraints.NotBlank;
 
 import java.time.LocalDate;
 
+/**
+ * @param id 수정할 기존 항목의 ID, 새 항목은 null
+ */
 public record ResumeProjectRequest(
+        Long id,
         @NotBlank String title,
         @NotBlank String projectRole,
         @NotBlank LocalDate startDate,
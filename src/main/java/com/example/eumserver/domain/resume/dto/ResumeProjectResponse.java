@@ -0,0 +1,14 @@
+package com.example.eumserver.domain.resume.dto;
+
+import java.time.LocalDate;
+
+public record ResumeProjectResponse(
+        Long id,
+        String title,
+        String projectRole,
+        LocalDate startDate,
+        LocalDate endDate,
+        String projectUrl,
+        String introduction
+) {
+}
@@ -0,0 +1,27 @@
+package com.example.eumserver.domain.resume.dto;
+
+import com.example.eumserver.global.entity.TimeStamp;
+
+import java.util.List;
+
+/**
+ * 이력서 응답, 엔티티를 직렬화하던 때와 같은 JSON 모양입니다.
+ */
+public record ResumeResponse(
+        Long id,
+        String title,
+        String jobCategory,
+        String jobSubcategory,
+        Double gpa,
+        Double totalScore,
+        List<ResumeCareerResponse> careers,
+        List<ResumeActivityResponse> activities,
+        List<ResumeCertificateResponse> certificates,
+        List<ResumeProjectResponse> projects,
+        List<ResumeHomepageResponse> homepages,
+        String introduction,
+        Boolean isPublic,
+        TimeStamp timeStamp,
+        Long version
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.eumserver.domain.resume.dto;
+
+import java.util.List;
+
+/**
+ * 공개 이력서 검색 조건, 비어 있는 조건은 적용하지 않습니다.
+ * 값은 대소문자와 앞뒤 공백을 구분하지 않습니다.
+ *
+ * @param minGpa       학점 범위를 지정하면 학점이 없는 이력서는 제외합니다.
+ * @param certificates 모두 가진 이력서만 찾습니다.
+ * @param technologies 경력의 사용 기술 중 모두 가진 이력서만 찾습니다.
+ */
+public record ResumeSearchFilter(
+        String jobCategory,
+        String jobSubcategory,
+        Double minGpa,
+        Double maxGpa,
+        List<String> certificates,
+        List<String> technologies
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.eumserver.domain.resume.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 등록된 이력서 순 검색 결과
+ *
+ * @param facets jobCategory, jobSubcategory, certificates, technologies마다 결과에 많이 나온 값과 그 개수
+ */
+public record ResumeSearchResponse(
+        List<ResumeSearchResult> content,
+        int page,
+        int totalCount,
+        boolean hasNext,
+        Map<String, List<ResumeFacetCount>> facets
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.eumserver.domain.resume.dto;
+
+import java.util.List;
+
+/**
+ * 검색 index에 담긴 공개 이력서 요약
+ *
+ * @param certificates 자격증 이름
+ * @param technologies 경력의 사용 기술을 쉼표, 슬래시, 줄바꿈으로 나눈 값
+ */
+public record ResumeSearchResult(
+        Long id,
+        Long userId,
+        String title,
+        String jobCategory,
+        String jobSubcategory,
+        Double gpa,
+        List<String> certificates,
+        List<String> technologies
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.eumserver.domain.resume.dto;
+
+/**
+ * 조건부 조회에서 이력서를 읽지 않고 공개 여부를 확인하기 위한 projection
+ */
+public record ResumeVersion(
+        Long version,
+        Boolean isPublic,
+        Long userId
+) {
+}
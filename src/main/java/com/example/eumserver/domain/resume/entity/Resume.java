@@ -5,6 +5,7 @@ import com.example.eumserver.global.entity.TimeStamp;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,8 +17,13 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Resume {
+    /**
+     * IDENTITY는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 INSERT를 batch로 묶지 않습니다.
+     * 이력서와 하위 항목은 MySQL에 sequence가 없으므로 {@code *_seq} 테이블로 흉내 낸 sequence에서 ID를 50개씩 미리 받아 둡니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_id_generator")
+    @SequenceGenerator(name = "resume_id_generator", sequenceName = "resumes_seq", allocationSize = 50)
     @Column(name = "resume_id")
     private Long id;
 
@@ -71,29 +77,30 @@ public class Resume {
     @Embedded
     private TimeStamp timeStamp;
 
+    /**
+     * 조건부 조회의 ETag로 사용합니다.
+     * 하위 항목만 바뀌어도 올라가도록 수정할 때는 version을 강제로 올립니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public void setUser(User user) {
         this.user = user;
         user.addResume(this);
     }
 
+    /**
+     * 하위 항목은 {@code ResumeItemMerger}가 기존 행과 맞춰 바꿉니다.
+     */
     public void updateResume(String title, String jobCategory, String jobSubcategory, Double gpa, Double totalScore,
-                             List<ResumeCareer> careers, List<ResumeActivity> activities, List<ResumeCertificate> certificates,
-                             List<ResumeProject> projects, List<ResumeHomepage> homepages, Boolean isPublic) {
+                             Boolean isPublic) {
         this.title = title;
         this.jobCategory = jobCategory;
         this.jobSubcategory = jobSubcategory;
         this.gpa = gpa;
         this.totalScore = totalScore;
-        this.careers.clear();
-        this.careers.addAll(careers);
-        this.activities.clear();
-        this.activities.addAll(activities);
-        this.certificates.clear();
-        this.certificates.addAll(certificates);
-        this.projects.clear();
-        this.projects.addAll(projects);
-        this.homepages.clear();
-        this.homepages.addAll(homepages);
         this.isPublic = isPublic;
     }
 }
@@ -1,5 +1,6 @@
 package com.example.eumserver.domain.resume.entity;
 
+import com.example.eumserver.domain.resume.dto.ResumeActivityRequest;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,7 +15,8 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ResumeActivity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_activity_id_generator")
+    @SequenceGenerator(name = "resume_activity_id_generator", sequenceName = "resume_activities_seq", allocationSize = 50)
     @Column(name = "resume_activity_id")
     private Long id;
 
@@ -41,4 +43,12 @@ public class ResumeActivity {
     public void setResume(Resume resume) {
         this.resume = resume;
     }
+
+    public void update(ResumeActivityRequest request) {
+        this.title = request.title();
+        this.startDate = request.startDate();
+        this.endDate = request.endDate();
+        this.activityUrl = request.activityUrl();
+        this.introduction = request.introduction();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.eumserver.domain.resume.entity;
 
+import com.example.eumserver.domain.resume.dto.ResumeCareerRequest;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
@@ -18,7 +19,8 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ResumeCareer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_career_id_generator")
+    @SequenceGenerator(name = "resume_career_id_generator", sequenceName = "resume_careers_seq", allocationSize = 50)
     @Column(name = "resume_career_id")
     private Long id;
 
@@ -51,4 +53,14 @@ public class ResumeCareer {
     public void setResume(Resume resume) {
         this.resume = resume;
     }
+
+    public void update(ResumeCareerRequest request) {
+        this.companyName = request.companyName();
+        this.companyRole = request.companyRole();
+        this.startDate = request.startDate();
+        this.endDate = request.endDate();
+        this.technologiesUsed = request.technologiesUsed();
+        this.companyWebsiteUrl = request.companyWebsiteUrl();
+        this.achievement = request.achievement();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.eumserver.domain.resume.entity;
 
+import com.example.eumserver.domain.resume.dto.ResumeCertificateRequest;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,7 +15,8 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ResumeCertificate {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_certificate_id_generator")
+    @SequenceGenerator(name = "resume_certificate_id_generator", sequenceName = "resume_certificates_seq", allocationSize = 50)
     @Column(name = "resume_certificate_id")
     private Long id;
 
@@ -41,4 +43,12 @@ public class ResumeCertificate {
     public void setResume(Resume resume) {
         this.resume = resume;
     }
+
+    public void update(ResumeCertificateRequest request) {
+        this.title = request.title();
+        this.startDate = request.startDate();
+        this.endDate = request.endDate();
+        this.certificateUrl = request.certificate_url();
+        this.introduction = request.introduction();
+    }
 }
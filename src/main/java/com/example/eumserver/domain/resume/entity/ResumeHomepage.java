@@ -1,5 +1,6 @@
 package com.example.eumserver.domain.resume.entity;
 
+import com.example.eumserver.domain.resume.dto.ResumeHomepageRequest;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
@@ -12,7 +13,8 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ResumeHomepage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_homepage_id_generator")
+    @SequenceGenerator(name = "resume_homepage_id_generator", sequenceName = "resume_websites_seq", allocationSize = 50)
     @Column(name = "resume_activity_id")
     private Long id;
 
@@ -31,4 +33,9 @@ public class ResumeHomepage {
     public void setResume(Resume resume) {
         this.resume = resume;
     }
+
+    public void update(ResumeHomepageRequest request) {
+        this.homepageType = request.homepageType();
+        this.homepageUrl = request.homepageUrl();
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.eumserver.domain.resume.entity;
 
+import com.example.eumserver.domain.resume.dto.ResumeProjectRequest;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,7 +15,8 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ResumeProject {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_project_id_generator")
+    @SequenceGenerator(name = "resume_project_id_generator", sequenceName = "resume_projects_seq", allocationSize = 50)
     @Column(name = "resume_project_id")
     private Long id;
 
@@ -44,4 +46,13 @@ public class ResumeProject {
     public void setResume(Resume resume) {
         this.resume = resume;
     }
+
+    public void update(ResumeProjectRequest request) {
+        this.title = request.title();
+        this.projectRole = request.projectRole();
+        this.startDate = request.startDate();
+        this.endDate = request.endDate();
+        this.projectUrl = request.projectUrl();
+        this.introduction = request.introduction();
+    }
 }
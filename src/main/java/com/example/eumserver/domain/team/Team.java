@@ -5,6 +5,7 @@ import com.example.eumserver.domain.team.participant.Participant;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -42,6 +43,14 @@ public class Team {
     @Column(columnDefinition = "TEXT")
     private String introduction;
 
+    /**
+     * 조건부 조회의 ETag로 사용합니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @JsonIgnore
     @Builder.Default
     @OneToMany(mappedBy = "team", cascade = CascadeType.REMOVE)
@@ -2,7 +2,10 @@ package com.example.eumserver.domain.team;
 
 import com.example.eumserver.domain.jwt.PrincipalDetails;
 import com.example.eumserver.domain.team.dto.TeamRequest;
+import com.example.eumserver.domain.team.dto.TeamResponse;
+import com.example.eumserver.global.utils.ConditionalRequestUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,11 +30,15 @@ public class TeamController {
     }
 
     @GetMapping("/{teamId}")
-    public ResponseEntity<Team> getTeamById(
-            @PathVariable long teamId
+    public ResponseEntity<TeamResponse> getTeamById(
+            @PathVariable long teamId,
+            @RequestHeader HttpHeaders headers
     ) {
-        Team team = teamService.findById(teamId);
-        return ResponseEntity.ok(team);
+        return ConditionalRequestUtils.get(
+                headers,
+                teamService.getTeamVersion(teamId),
+                () -> teamService.getTeam(teamId),
+                TeamResponse::version);
     }
 
     @DeleteMapping("/{teamId}")
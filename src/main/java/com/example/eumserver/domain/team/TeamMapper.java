@@ -1,6 +1,7 @@
 package com.example.eumserver.domain.team;
 
 import com.example.eumserver.domain.team.dto.TeamRequest;
+import com.example.eumserver.domain.team.dto.TeamResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
@@ -14,6 +15,9 @@ public interface TeamMapper {
     @Mapping(target = "logo", ignore = true)
     @Mapping(target = "participants", ignore = true)
     @Mapping(target = "formationDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Team teamRequestToTeam(TeamRequest teamRequest);
 
+    TeamResponse teamToTeamResponse(Team team);
+
 }
@@ -1,6 +1,14 @@
 package com.example.eumserver.domain.team;
 
+import com.example.eumserver.global.entity.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    @Query("select new com.example.eumserver.global.entity.ResourceVersion(t.version) from Team t where t.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
 }
@@ -1,12 +1,15 @@
 package com.example.eumserver.domain.team;
 
 import com.example.eumserver.domain.team.dto.TeamRequest;
+import com.example.eumserver.domain.team.dto.TeamResponse;
 import com.example.eumserver.domain.team.participant.Participant;
 import com.example.eumserver.domain.team.participant.ParticipantId;
 import com.example.eumserver.domain.team.participant.ParticipantRepository;
 import com.example.eumserver.domain.team.participant.ParticipantRole;
 import com.example.eumserver.domain.user.User;
 import com.example.eumserver.domain.user.UserRepository;
+import com.example.eumserver.global.cache.TwoTierCache;
+import com.example.eumserver.global.entity.ResourceVersion;
 import com.example.eumserver.global.error.CustomException;
 import com.example.eumserver.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,7 @@ public class TeamService {
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final ParticipantRepository participantRepository;
+    private final TwoTierCache<TeamResponse> teamCache;
 
     @Transactional
     public Team createTeam(
@@ -50,6 +54,7 @@ public class TeamService {
             throw new CustomException(403, "You do not have permission to delete a team.");
         }
         participantRepository.deleteById(new ParticipantId(userId, teamId));
+        teamCache.evict(teamId);
     }
 
 
@@ -57,6 +62,20 @@ public class TeamService {
         return teamRepository.findAll();
     }
 
+    /**
+     * 로컬 캐시, Redis, DB 순서로 조회합니다.
+     */
+    public TeamResponse getTeam(long id) {
+        return teamCache.get(id, () -> TeamMapper.INSTANCE.teamToTeamResponse(findById(id)));
+    }
+
+    /**
+     * 조건부 조회용 version, 팀이 없으면 null
+     */
+    public ResourceVersion getTeamVersion(long id) {
+        return teamRepository.findVersionById(id).orElse(null);
+    }
+
     public Team findById(Long id) {
         return teamRepository.findById(id)
         .orElseThrow(() -> new EntityNotFoundException("Team not found."));
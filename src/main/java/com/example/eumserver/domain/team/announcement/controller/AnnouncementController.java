@@ -1,19 +1,25 @@
 package com.example.eumserver.domain.team.announcement.controller;
 
-import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementRequest;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSlice;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementUpdateRequest;
-import com.example.eumserver.domain.team.announcement.mapper.AnnouncementMapper;
+import com.example.eumserver.domain.team.announcement.dto.ResumeCandidate;
+import com.example.eumserver.domain.team.announcement.service.AnnouncementMatchingService;
 import com.example.eumserver.domain.team.announcement.service.AnnouncementService;
+import com.example.eumserver.global.utils.ConditionalRequestUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/team/{teamId}/announcement")
@@ -22,6 +28,8 @@ public class AnnouncementController {
 
     private final AnnouncementService announcementService;
 
+    private final AnnouncementMatchingService announcementMatchingService;
+
     @PostMapping("")
     @ResponseStatus(HttpStatus.CREATED)
     public ResponseEntity<AnnouncementResponse> createAnnouncement(
@@ -39,17 +47,44 @@ public class AnnouncementController {
     public ResponseEntity<Page<AnnouncementResponse>> getAnnouncements(
             @PathVariable(name = "teamId") Long teamId,
             @RequestParam(name = "page", defaultValue = "0") Integer page,
+            @RequestParam(name = "sort", required = false) String sort,
             @RequestBody AnnouncementFilter announcementFilter
     ) {
-        Page<AnnouncementResponse> filteredAnnouncementsWithPaging = announcementService.getFilteredAnnouncementsWithPaging(teamId, page, announcementFilter);
+        Page<AnnouncementResponse> filteredAnnouncementsWithPaging = announcementService.getFilteredAnnouncementsWithPaging(
+                teamId, page, AnnouncementSort.from(sort), announcementFilter);
         return ResponseEntity.ok(filteredAnnouncementsWithPaging);
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<AnnouncementSlice> getAnnouncementsWithCursor(
+            @PathVariable(name = "teamId") Long teamId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestBody AnnouncementFilter announcementFilter
+    ) {
+        AnnouncementSlice announcementSlice = announcementService.getFilteredAnnouncementsWithCursor(
+                teamId, cursor, AnnouncementSort.from(sort), announcementFilter);
+        return ResponseEntity.ok(announcementSlice);
+    }
+
     @GetMapping("/{announcementId}")
-    public ResponseEntity<AnnouncementResponse> getAnnouncement(@PathVariable(name = "announcementId") Long announcementId) {
-        Announcement announcement = announcementService.findAnnouncementById(announcementId);
-        AnnouncementResponse announcementResponse = AnnouncementMapper.INSTANCE.entityToResponse(announcement);
-        return ResponseEntity.ok(announcementResponse);
+    public ResponseEntity<AnnouncementResponse> getAnnouncement(
+            @PathVariable(name = "announcementId") Long announcementId,
+            @RequestHeader HttpHeaders headers
+    ) {
+        return ConditionalRequestUtils.get(
+                headers,
+                announcementService.getAnnouncementVersion(announcementId),
+                () -> announcementService.getAnnouncement(announcementId),
+                AnnouncementResponse::version);
+    }
+
+    @GetMapping("/{announcementId}/candidates")
+    public ResponseEntity<List<ResumeCandidate>> getCandidates(
+            @PathVariable(name = "announcementId") Long announcementId,
+            @RequestParam(name = "size", defaultValue = "" + AnnouncementMatchingService.DEFAULT_PAGE_SIZE) Integer size
+    ) {
+        return ResponseEntity.ok(announcementMatchingService.getCandidates(announcementId, size));
     }
 
     @PutMapping("/{announcementId}")
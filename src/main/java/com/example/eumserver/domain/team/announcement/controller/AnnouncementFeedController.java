@@ -0,0 +1,27 @@
+package com.example.eumserver.domain.team.announcement.controller;
+
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedResponse;
+import com.example.eumserver.domain.team.announcement.service.AnnouncementFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/announcements")
+@RequiredArgsConstructor
+public class AnnouncementFeedController {
+
+    private final AnnouncementFeedService announcementFeedService;
+
+    @GetMapping("/feed")
+    public ResponseEntity<AnnouncementFeedResponse> getFeed(
+            @RequestParam(name = "occupation", required = false) String occupation,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "" + AnnouncementFeedService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        return ResponseEntity.ok(announcementFeedService.getFeed(occupation, cursor, size));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.eumserver.domain.team.announcement.controller;
+
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSearchResponse;
+import com.example.eumserver.domain.team.announcement.service.AnnouncementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/announcements")
+@RequiredArgsConstructor
+public class AnnouncementSearchController {
+
+    private final AnnouncementService announcementService;
+
+    @GetMapping("/search")
+    public ResponseEntity<AnnouncementSearchResponse> searchAnnouncements(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "page", defaultValue = "0") Integer page,
+            @RequestBody(required = false) AnnouncementFilter announcementFilter
+    ) {
+        AnnouncementSearchResponse announcementSearchResponse = announcementService.searchAnnouncements(query, page, announcementFilter);
+        return ResponseEntity.ok(announcementSearchResponse);
+    }
+}
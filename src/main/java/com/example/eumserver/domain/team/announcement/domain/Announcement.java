@@ -5,6 +5,7 @@ import com.example.eumserver.domain.team.announcement.dto.AnnouncementUpdateRequ
 import com.example.eumserver.global.entity.TimeStamp;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,6 +40,14 @@ public class Announcement {
     @Column(name = "date_expired", nullable = false)
     private LocalDateTime expiredDate;
 
+    /**
+     * 마감 여부, 마감일이 지나면 {@code AnnouncementExpirySweeper}가 닫습니다.
+     * 목록, 검색, feed에서 제외됩니다.
+     */
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean closed;
+
     @Setter
     @Column(name = "date_published")
     private LocalDateTime publishedDate;
@@ -46,15 +55,40 @@ public class Announcement {
     @Embedded
     private TimeStamp timeStamp;
 
+    /**
+     * 조건부 조회의 ETag로 사용합니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ElementCollection(targetClass = OccupationClassification.class)
+    @CollectionTable(
+            name = "announcement_occupation_classifications",
+            joinColumns = @JoinColumn(name = "announcement_team_announcement_id")
+    )
+    @Column(name = "occupation_classifications")
     @Enumerated(EnumType.STRING)
     private List<OccupationClassification> occupationClassifications;
 
+    /**
+     * occupationClassifications의 bit 합
+     * 목록 조회의 필터와 응답은 collection table 대신 이 값을 사용합니다.
+     */
+    @Column(name = "occupation_mask", nullable = false)
+    private long occupationMask;
+
     public void setTeam(Team team) {
         this.team = team;
         team.addAnnouncement(this);
     }
 
+    @PrePersist
+    private void syncOccupationMask() {
+        this.occupationMask = OccupationClassification.toMask(occupationClassifications);
+    }
+
     public boolean isPublished() {
         return this.publishedDate != null;
     }
@@ -64,7 +98,12 @@ public class Announcement {
         this.description = announcementUpdateRequest.description();
         this.vacancies = announcementUpdateRequest.vacancies();
         this.expiredDate = announcementUpdateRequest.expiredDate();
+        // 마감일을 미래로 미루면 다시 엽니다. 지난 날짜로 바꾼 공고는 sweeper가 닫습니다.
+        if (this.expiredDate.isAfter(LocalDateTime.now())) {
+            this.closed = false;
+        }
         this.occupationClassifications = announcementUpdateRequest.occupationClassifications();
+        this.occupationMask = OccupationClassification.toMask(this.occupationClassifications);
         if (!isPublished() && announcementUpdateRequest.publish()) {
             this.publishedDate = LocalDateTime.now();
         } else if (!announcementUpdateRequest.publish()) {
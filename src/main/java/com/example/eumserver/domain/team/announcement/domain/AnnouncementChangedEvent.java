@@ -0,0 +1,30 @@
+package com.example.eumserver.domain.team.announcement.domain;
+
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedItem;
+
+/**
+ * 공고가 생성, 수정, 삭제되었음을 알리는 event
+ * commit 이후 전체 공고 feed에 반영됩니다.
+ *
+ * @param feedItem 게시된 공고의 feed 항목, 게시되지 않았거나 마감 또는 삭제된 공고는 null
+ */
+public record AnnouncementChangedEvent(
+        Long announcementId,
+        AnnouncementFeedItem feedItem
+) {
+
+    public static AnnouncementChangedEvent of(Announcement announcement) {
+        AnnouncementFeedItem feedItem = announcement.isPublished() && !announcement.isClosed()
+                ? AnnouncementFeedItem.of(announcement)
+                : null;
+        return new AnnouncementChangedEvent(announcement.getId(), feedItem);
+    }
+
+    public static AnnouncementChangedEvent deleted(Long announcementId) {
+        return new AnnouncementChangedEvent(announcementId, null);
+    }
+
+    public static AnnouncementChangedEvent closed(Long announcementId) {
+        return new AnnouncementChangedEvent(announcementId, null);
+    }
+}
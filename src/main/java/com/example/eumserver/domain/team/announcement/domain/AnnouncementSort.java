@@ -0,0 +1,57 @@
+package com.example.eumserver.domain.team.announcement.domain;
+
+import com.example.eumserver.global.error.CustomException;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 클라이언트가 고를 수 있는 공고 목록 정렬
+ * 각 정렬은 (team_id, closed, 정렬 컬럼, team_announcement_id) index를 그대로 읽으며, 값이 같은 공고는 ID로 순서를 고정합니다.
+ * 정렬 컬럼의 값은 cursor에 문자열로 담기므로 다시 읽을 parser를 함께 둡니다.
+ */
+public enum AnnouncementSort {
+    NEWEST("newest", false, LocalDateTime::parse),
+    EXPIRING_SOON("expiring_soon", true, LocalDateTime::parse),
+    MOST_VACANCIES("most_vacancies", false, Integer::valueOf);
+
+    private final String value;
+    private final boolean ascending;
+    private final Function<String, Object> keyParser;
+
+    AnnouncementSort(String value, boolean ascending, Function<String, Object> keyParser) {
+        this.value = value;
+        this.ascending = ascending;
+        this.keyParser = keyParser;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * cursor에 담긴 정렬 컬럼 값을 읽습니다.
+     */
+    public Object parseKey(String key) {
+        return keyParser.apply(key);
+    }
+
+    /**
+     * @param value 요청의 sort parameter, 없으면 최신순
+     */
+    public static AnnouncementSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        for (AnnouncementSort sort : AnnouncementSort.values()) {
+            if (sort.getValue().equals(value)) {
+                return sort;
+            }
+        }
+        throw new CustomException(400, "Unsupported sort.");
+    }
+}
@@ -3,8 +3,13 @@ package com.example.eumserver.domain.team.announcement.domain;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 모집 공고의 직종 분류를 모아둔 Enum Class 입니다.
+ * 각 분류는 순서(ordinal)에 해당하는 bit로 occupation_mask에 저장되므로, 새 분류는 항상 마지막에 추가해야 합니다.
  */
 public enum OccupationClassification {
     DESIGN_UI_UX("design_ui_ux"),
@@ -58,6 +63,41 @@ public enum OccupationClassification {
         return value;
     }
 
+    /**
+     * 이력서의 직무(jobCategory)에 해당하는 앞부분, 예: development_backend → development
+     */
+    public String getJobCategory() {
+        int delimiter = value.indexOf('_');
+        return delimiter < 0 ? value : value.substring(0, delimiter);
+    }
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long toMask(Collection<OccupationClassification> occupationClassifications) {
+        long mask = 0L;
+        if (occupationClassifications == null) {
+            return mask;
+        }
+        for (OccupationClassification occupationClassification : occupationClassifications) {
+            if (occupationClassification != null) {
+                mask |= occupationClassification.bit();
+            }
+        }
+        return mask;
+    }
+
+    public static List<OccupationClassification> fromMask(long mask) {
+        List<OccupationClassification> occupationClassifications = new ArrayList<>(Long.bitCount(mask));
+        for (OccupationClassification occupationClassification : OccupationClassification.values()) {
+            if ((mask & occupationClassification.bit()) != 0) {
+                occupationClassifications.add(occupationClassification);
+            }
+        }
+        return occupationClassifications;
+    }
+
     @JsonCreator
     public static OccupationClassification from(String value) {
         for (OccupationClassification occupationClassification: OccupationClassification.values()) {
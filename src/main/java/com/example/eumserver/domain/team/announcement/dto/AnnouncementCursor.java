@@ -0,0 +1,56 @@
+package com.example.eumserver.domain.team.announcement.dto;
+
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
+import com.example.eumserver.global.error.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 공고 목록의 다음 페이지 위치
+ * 정렬 순서인 (정렬 컬럼 값, ID) 그대로이며, 클라이언트에는 내용을 알 수 없는 문자열로 전달합니다.
+ * 다른 정렬의 cursor로는 조회할 수 없습니다.
+ */
+public record AnnouncementCursor(
+        AnnouncementSort sort,
+        Object key,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token {@link #encode()}로 만든 문자열, 비어 있으면 첫 페이지
+     * @param sort  요청한 정렬
+     */
+    public static AnnouncementCursor decode(String token, AnnouncementSort sort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int first = raw.indexOf(DELIMITER);
+            int last = raw.lastIndexOf(DELIMITER);
+
+            // 정렬을 고를 수 있기 전에 발급한 cursor는 (생성 시각, ID)만 담고 있습니다.
+            AnnouncementSort cursorSort = first == last
+                    ? AnnouncementSort.NEWEST
+                    : AnnouncementSort.valueOf(raw.substring(0, first));
+            if (cursorSort != sort) {
+                throw new CustomException(400, "Invalid cursor.");
+            }
+
+            String key = raw.substring(first == last ? 0 : first + 1, last);
+            return new AnnouncementCursor(sort, sort.parseKey(key), Long.parseLong(raw.substring(last + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException(400, "Invalid cursor.");
+        }
+    }
+}
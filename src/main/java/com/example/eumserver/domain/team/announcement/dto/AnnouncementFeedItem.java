@@ -0,0 +1,35 @@
+package com.example.eumserver.domain.team.announcement.dto;
+
+import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 공고 feed의 항목
+ */
+public record AnnouncementFeedItem(
+        Long id,
+        Long teamId,
+        String title,
+        List<OccupationClassification> occupationClassifications,
+        LocalDateTime publishedDate
+) {
+
+    /**
+     * feed 재구성 query의 DTO projection에서 사용합니다.
+     */
+    public AnnouncementFeedItem(Long id, Long teamId, String title, Long occupationMask, LocalDateTime publishedDate) {
+        this(id, teamId, title, OccupationClassification.fromMask(occupationMask == null ? 0L : occupationMask), publishedDate);
+    }
+
+    public static AnnouncementFeedItem of(Announcement announcement) {
+        return new AnnouncementFeedItem(
+                announcement.getId(),
+                announcement.getTeam().getId(),
+                announcement.getTitle(),
+                announcement.getOccupationMask(),
+                announcement.getPublishedDate());
+    }
+}
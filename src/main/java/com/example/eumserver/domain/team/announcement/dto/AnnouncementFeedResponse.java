@@ -0,0 +1,13 @@
+package com.example.eumserver.domain.team.announcement.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지를 요청할 때 전달할 cursor, 마지막 페이지이면 null
+ */
+public record AnnouncementFeedResponse(
+        List<AnnouncementFeedItem> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
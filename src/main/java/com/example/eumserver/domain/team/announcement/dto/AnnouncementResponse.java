@@ -1,7 +1,20 @@
 package com.example.eumserver.domain.team.announcement.dto;
 
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+
+import java.util.List;
+
 public record AnnouncementResponse(
         String title,
-        String description
+        String description,
+        List<OccupationClassification> occupationClassifications,
+        Long version
 ) {
+
+    /**
+     * 목록 조회의 DTO projection에서 사용합니다.
+     */
+    public AnnouncementResponse(String title, String description, Long occupationMask, Long version) {
+        this(title, description, OccupationClassification.fromMask(occupationMask == null ? 0L : occupationMask), version);
+    }
 }
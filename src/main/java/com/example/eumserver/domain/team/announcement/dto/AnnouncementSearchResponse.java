@@ -0,0 +1,13 @@
+package com.example.eumserver.domain.team.announcement.dto;
+
+import java.util.List;
+
+/**
+ * 관련도 순 검색 결과, 전체 개수 없이 다음 페이지 여부만 담습니다.
+ */
+public record AnnouncementSearchResponse(
+        List<AnnouncementSearchResult> content,
+        int page,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,25 @@
+package com.example.eumserver.domain.team.announcement.dto;
+
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+
+import java.util.List;
+
+/**
+ * @param score 검색어와의 관련도, 클수록 먼저 나옵니다.
+ */
+public record AnnouncementSearchResult(
+        Long id,
+        Long teamId,
+        String title,
+        List<OccupationClassification> occupationClassifications,
+        double score
+) {
+
+    /**
+     * 검색 query의 DTO projection에서 사용합니다.
+     */
+    public AnnouncementSearchResult(Long id, Long teamId, String title, Long occupationMask, Double score) {
+        this(id, teamId, title, OccupationClassification.fromMask(occupationMask == null ? 0L : occupationMask),
+                score == null ? 0.0 : score);
+    }
+}
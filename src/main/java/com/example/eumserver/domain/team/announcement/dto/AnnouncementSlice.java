@@ -0,0 +1,15 @@
+package com.example.eumserver.domain.team.announcement.dto;
+
+import java.util.List;
+
+/**
+ * 전체 개수 없이 다음 페이지 여부만 담은 공고 목록
+ *
+ * @param nextCursor 다음 페이지를 요청할 때 전달할 cursor, 마지막 페이지이면 null
+ */
+public record AnnouncementSlice(
+        List<AnnouncementResponse> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
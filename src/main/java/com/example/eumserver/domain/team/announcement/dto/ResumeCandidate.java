@@ -0,0 +1,16 @@
+package com.example.eumserver.domain.team.announcement.dto;
+
+/**
+ * 공고에 추천하는 공개 이력서
+ *
+ * @param score 0 ~ 1, 직종 분류가 맞는 정도와 공고에 이력서의 기술, 자격증이 나오는 정도를 합한 값
+ */
+public record ResumeCandidate(
+        Long resumeId,
+        Long userId,
+        String title,
+        String jobCategory,
+        String jobSubcategory,
+        double score
+) {
+}
@@ -1,22 +1,27 @@
 package com.example.eumserver.domain.team.announcement.mapper;
 
 import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementRequest;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
-@Mapper
+@Mapper(imports = OccupationClassification.class)
 public interface AnnouncementMapper {
 
     AnnouncementMapper INSTANCE = Mappers.getMapper(AnnouncementMapper.class);
 
+    @Mapping(target = "occupationClassifications", expression = "java(OccupationClassification.fromMask(announcement.getOccupationMask()))")
     AnnouncementResponse entityToResponse(Announcement announcement);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "timeStamp", ignore = true)
     @Mapping(target = "publishedDate", ignore = true)
     @Mapping(target = "team", ignore = true)
+    @Mapping(target = "occupationMask", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "closed", ignore = true)
     Announcement requestToEntity(AnnouncementRequest announcementRequest);
 }
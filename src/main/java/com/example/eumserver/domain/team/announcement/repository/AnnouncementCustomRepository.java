@@ -1,20 +1,56 @@
 package com.example.eumserver.domain.team.announcement.repository;
 
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementCursor;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedItem;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
 import com.example.eumserver.domain.team.announcement.domain.Announcement;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSearchResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface AnnouncementCustomRepository {
 
     /**
      * Retrieve a paginated list of announcements filtered additional criteria.
      *
      * @param filter   An object containing filter criteria to apply to the announcements.
-     * @param pageable Pagination information including page number, page size, and sort order.
+     * @param sort     The order of the announcements. Any sort in {@code pageable} is ignored.
+     * @param pageable Pagination information including page number and page size.
      * @return A {@link Page} of {@link Announcement} objects that match the specified filters.
      */
-    Page<AnnouncementResponse> getFilteredAnnouncementsWithPaging(Long teamId, AnnouncementFilter filter, Pageable pageable);
+    Page<AnnouncementResponse> getFilteredAnnouncementsWithPaging(Long teamId, AnnouncementFilter filter, AnnouncementSort sort, Pageable pageable);
+
+    /**
+     * Retrieve the announcements that come after the cursor in the given order.
+     * Rows before the cursor are skipped by the index instead of being read and discarded, and no count query is run.
+     *
+     * @param sort   The order of the announcements, which must be the order the cursor was issued for.
+     * @param cursor The position returned with the previous slice, or {@code null} for the first slice.
+     * @param size   The maximum number of announcements in the slice.
+     * @return An {@link AnnouncementSlice} with the cursor of the next slice.
+     */
+    AnnouncementSlice getFilteredAnnouncementsWithCursor(Long teamId, AnnouncementFilter filter, AnnouncementSort sort, AnnouncementCursor cursor, int size);
+
+    /**
+     * Retrieve published announcements of every team in ascending id order, used to rebuild the announcement feed.
+     *
+     * @param afterId The last id of the previous batch, or {@code 0} for the first batch.
+     * @param limit   The maximum number of items in the batch.
+     */
+    List<AnnouncementFeedItem> findPublishedFeedItems(Long afterId, int limit);
+
+    /**
+     * Search published announcements of every team by title and description, most relevant first.
+     * Drafts are never returned, whatever the filter says.
+     *
+     * @param booleanQuery A MySQL boolean mode full-text query against the n-gram index.
+     * @param filter       Facets to apply on top of the search, or {@code null}.
+     */
+    AnnouncementSearchResponse searchAnnouncements(String booleanQuery, AnnouncementFilter filter, int page, int size);
 
 }
@@ -1,12 +1,24 @@
 package com.example.eumserver.domain.team.announcement.repository;
 
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
 import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
 import com.example.eumserver.domain.team.announcement.domain.QAnnouncement;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementCursor;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedItem;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
-import com.example.eumserver.domain.team.announcement.domain.Announcement;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
-import com.example.eumserver.domain.team.announcement.mapper.AnnouncementMapper;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSearchResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSearchResult;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSlice;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberTemplate;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +27,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import static com.example.eumserver.global.config.MySqlFunctionContributor.MATCH_AGAINST;
+
 import java.util.List;
 
 @Repository
@@ -24,31 +38,19 @@ public class AnnouncementCustomRepositoryImpl implements AnnouncementCustomRepos
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Page<AnnouncementResponse> getFilteredAnnouncementsWithPaging(Long teamId, AnnouncementFilter filter, Pageable pageable) {
+    public Page<AnnouncementResponse> getFilteredAnnouncementsWithPaging(Long teamId, AnnouncementFilter filter, AnnouncementSort sort, Pageable pageable) {
         QAnnouncement announcement = QAnnouncement.announcement;
-        BooleanExpression predicate = announcement.isNotNull();
-
-        predicate = predicate.and(announcement.team.id.eq(teamId));
-
-        if (filter.published()) {
-            predicate = predicate.and(announcement.publishedDate.isNotNull());
-        }
-
-        List<OccupationClassification> occupationClassifications = filter.occupationClassifications();
-        if (occupationClassifications != null && !occupationClassifications.isEmpty()) {
-            predicate = predicate.and(announcement.occupationClassifications.any().in(occupationClassifications));
-        }
+        BooleanExpression predicate = filterPredicate(announcement, teamId, filter);
 
-        List<Announcement> announcements = queryFactory
-                .selectFrom(announcement)
+        List<AnnouncementResponse> announcementResponses = queryFactory
+                .select(responseProjection(announcement))
+                .from(announcement)
                 .where(predicate)
+                .orderBy(orderBy(announcement, sort))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        List<AnnouncementResponse> announcementResponses = announcements.stream()
-                .map(AnnouncementMapper.INSTANCE::entityToResponse).toList();
-
         JPAQuery<Long> count = queryFactory
                 .select(announcement.count())
                 .from(announcement)
@@ -56,4 +58,155 @@ public class AnnouncementCustomRepositoryImpl implements AnnouncementCustomRepos
 
         return PageableExecutionUtils.getPage(announcementResponses, pageable, count::fetchOne);
     }
+
+    @Override
+    public AnnouncementSlice getFilteredAnnouncementsWithCursor(Long teamId, AnnouncementFilter filter, AnnouncementSort sort, AnnouncementCursor cursor, int size) {
+        QAnnouncement announcement = QAnnouncement.announcement;
+        BooleanExpression predicate = filterPredicate(announcement, teamId, filter);
+        ComparableExpressionBase<?> sortKey = sortKey(announcement, sort);
+
+        if (cursor != null) {
+            predicate = predicate.and(after(announcement, sort, cursor));
+        }
+
+        ConstructorExpression<AnnouncementResponse> response = responseProjection(announcement);
+        List<Tuple> rows = queryFactory
+                .select(response, sortKey, announcement.id)
+                .from(announcement)
+                .where(predicate)
+                .orderBy(orderBy(announcement, sort))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> page = hasNext ? rows.subList(0, size) : rows;
+
+        List<AnnouncementResponse> announcementResponses = page.stream()
+                .map(row -> row.get(response))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = page.get(page.size() - 1);
+            nextCursor = new AnnouncementCursor(sort, last.get(sortKey), last.get(announcement.id)).encode();
+        }
+        return new AnnouncementSlice(announcementResponses, nextCursor, hasNext);
+    }
+
+    @Override
+    public List<AnnouncementFeedItem> findPublishedFeedItems(Long afterId, int limit) {
+        QAnnouncement announcement = QAnnouncement.announcement;
+        return queryFactory
+                .select(Projections.constructor(AnnouncementFeedItem.class,
+                        announcement.id,
+                        announcement.team.id,
+                        announcement.title,
+                        announcement.occupationMask,
+                        announcement.publishedDate))
+                .from(announcement)
+                .where(announcement.publishedDate.isNotNull(), announcement.closed.isFalse(), announcement.id.gt(afterId))
+                .orderBy(announcement.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public AnnouncementSearchResponse searchAnnouncements(String booleanQuery, AnnouncementFilter filter, int page, int size) {
+        QAnnouncement announcement = QAnnouncement.announcement;
+        NumberTemplate<Double> score = Expressions.numberTemplate(Double.class,
+                "function('" + MATCH_AGAINST + "', {0}, {1}, {2})",
+                announcement.title, announcement.description, booleanQuery);
+
+        List<AnnouncementSearchResult> results = queryFactory
+                .select(Projections.constructor(AnnouncementSearchResult.class,
+                        announcement.id,
+                        announcement.team.id,
+                        announcement.title,
+                        announcement.occupationMask,
+                        score))
+                .from(announcement)
+                // 인증 없이 모든 팀의 공고를 검색하므로 feed와 같이 게시된 공고만 반환합니다.
+                .where(score.gt(0.0), announcement.publishedDate.isNotNull(), announcement.closed.isFalse(),
+                        filter == null ? null : facetPredicate(announcement, filter))
+                .orderBy(score.desc(), announcement.id.desc())
+                .offset((long) page * size)
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = results.size() > size;
+        return new AnnouncementSearchResponse(hasNext ? results.subList(0, size) : results, page, hasNext);
+    }
+
+    /**
+     * 엔티티 대신 응답에 필요한 컬럼만 조회합니다.
+     * 직종 분류는 occupation_mask로 만들므로 collection table도, team도 읽지 않고 한 번의 query로 끝납니다.
+     */
+    private static ConstructorExpression<AnnouncementResponse> responseProjection(QAnnouncement announcement) {
+        return Projections.constructor(AnnouncementResponse.class,
+                announcement.title,
+                announcement.description,
+                announcement.occupationMask,
+                announcement.version);
+    }
+
+    private static BooleanExpression filterPredicate(QAnnouncement announcement, Long teamId, AnnouncementFilter filter) {
+        return announcement.team.id.eq(teamId)
+                .and(announcement.closed.isFalse())
+                .and(facetPredicate(announcement, filter));
+    }
+
+    /**
+     * @return 조건이 없으면 null
+     */
+    private static BooleanExpression facetPredicate(QAnnouncement announcement, AnnouncementFilter filter) {
+        BooleanExpression predicate = null;
+
+        if (filter.published()) {
+            predicate = announcement.publishedDate.isNotNull();
+        }
+
+        // 분류 중 하나라도 겹치면 포함합니다. collection table을 EXISTS로 조회하는 대신 bit 연산 하나로 거릅니다.
+        long occupationMask = OccupationClassification.toMask(filter.occupationClassifications());
+        if (occupationMask != 0L) {
+            BooleanExpression overlaps = Expressions.numberTemplate(Long.class, "bitand({0}, {1})",
+                    announcement.occupationMask, occupationMask).ne(0L);
+            predicate = predicate == null ? overlaps : predicate.and(overlaps);
+        }
+        return predicate;
+    }
+
+    /**
+     * 정렬마다 읽는 컬럼, 허용한 정렬만 여기서 컬럼으로 바뀌므로 클라이언트가 임의의 컬럼으로 정렬할 수 없습니다.
+     * 모든 컬럼에 (team_id, closed, 컬럼, team_announcement_id) 순서의 index가 있습니다.
+     * 마감되지 않은 공고만 조회하므로 team_id와 closed가 모두 등호 조건이고, index를 정렬 순서대로 읽다가 limit에서 멈춥니다.
+     * 최신순 index에는 occupation_mask와 date_published도 있어 분류, 게시 여부 필터를 테이블을 읽지 않고 거릅니다.
+     */
+    private static ComparableExpressionBase<?> sortKey(QAnnouncement announcement, AnnouncementSort sort) {
+        return switch (sort) {
+            case NEWEST -> announcement.timeStamp.createDate;
+            case EXPIRING_SOON -> announcement.expiredDate;
+            case MOST_VACANCIES -> announcement.vacancies;
+        };
+    }
+
+    /**
+     * 정렬 컬럼 값이 같은 공고는 같은 방향의 ID로 순서를 고정합니다.
+     */
+    private static OrderSpecifier<?>[] orderBy(QAnnouncement announcement, AnnouncementSort sort) {
+        ComparableExpressionBase<?> sortKey = sortKey(announcement, sort);
+        return sort.isAscending()
+                ? new OrderSpecifier<?>[]{sortKey.asc(), announcement.id.asc()}
+                : new OrderSpecifier<?>[]{sortKey.desc(), announcement.id.desc()};
+    }
+
+    /**
+     * 정렬 순서에서 cursor보다 뒤에 있는 공고
+     */
+    private static BooleanExpression after(QAnnouncement announcement, AnnouncementSort sort, AnnouncementCursor cursor) {
+        ComparableExpressionBase<?> sortKey = sortKey(announcement, sort);
+        Ops direction = sort.isAscending() ? Ops.GT : Ops.LT;
+        return Expressions.booleanOperation(direction, sortKey, Expressions.constant(cursor.key()))
+                .or(Expressions.booleanOperation(Ops.EQ, sortKey, Expressions.constant(cursor.key()))
+                        .and(Expressions.booleanOperation(direction, announcement.id, Expressions.constant(cursor.id()))));
+    }
 }
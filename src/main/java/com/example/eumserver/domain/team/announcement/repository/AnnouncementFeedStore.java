@@ -0,0 +1,235 @@
+package com.example.eumserver.domain.team.announcement.repository;
+
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedItem;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedResponse;
+import com.example.eumserver.global.config.RedisConfig;
+import com.example.eumserver.global.error.CustomException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 전체 팀의 게시된 공고를 최신순으로 보관하는 Redis feed
+ * <ul>
+ *     <li>{@code feed:announcement:all} - 모든 게시된 공고의 sorted set, score는 게시 시각</li>
+ *     <li>{@code feed:announcement:occupation:{분류}} - 분류별 sorted set</li>
+ *     <li>{@code feed:announcement:item:{announcementId}} - 응답에 필요한 공고 정보 hash</li>
+ * </ul>
+ * member는 0으로 채운 공고 ID이므로, 게시 시각이 같으면 문자열 순서가 곧 ID 순서입니다.
+ * 공고 하나의 변경은 Lua script 하나로 원자적으로 반영되며, 조회는 MySQL 없이 replica에서 읽습니다.
+ */
+@Component
+public class AnnouncementFeedStore {
+
+    private static final String KEY_PREFIX = "feed:announcement:";
+    private static final String ALL_KEY = KEY_PREFIX + "all";
+    private static final String OCCUPATION_KEY_PREFIX = KEY_PREFIX + "occupation:";
+    private static final String ITEM_KEY_PREFIX = KEY_PREFIX + "item:";
+    private static final String CURSOR_DELIMITER = "|";
+
+    /**
+     * KEYS[1] = item, KEYS[2] = all, KEYS[3..] = 분류별 sorted set (ordinal 순서)
+     * ARGV = member, 게시 시각, 분류별 포함 여부('0'/'1' 문자열), teamId, title, mask
+     * 이전 분류에서 모두 빼고 현재 분류에만 다시 넣습니다.
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #KEYS do
+                redis.call('ZREM', KEYS[i], ARGV[1])
+            end
+            redis.call('HSET', KEYS[1], 'teamId', ARGV[4], 'title', ARGV[5], 'mask', ARGV[6], 'publishedAt', ARGV[2])
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            for i = 3, #KEYS do
+                if string.sub(ARGV[3], i - 2, i - 2) == '1' then
+                    redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+                end
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = item, KEYS[2..] = all과 분류별 sorted set, ARGV[1] = member
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            for i = 2, #KEYS do
+                redis.call('ZREM', KEYS[i], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private static final List<String> OCCUPATION_KEYS = Arrays.stream(OccupationClassification.values())
+            .map(AnnouncementFeedStore::occupationKey)
+            .toList();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> replicaRedisTemplate;
+
+    public AnnouncementFeedStore(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier(RedisConfig.REPLICA_REDIS_TEMPLATE) RedisTemplate<String, String> replicaRedisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+    }
+
+    public void put(AnnouncementFeedItem item) {
+        long mask = OccupationClassification.toMask(item.occupationClassifications());
+        String occupationFlags = Arrays.stream(OccupationClassification.values())
+                .map(occupationClassification -> (mask & occupationClassification.bit()) != 0 ? "1" : "0")
+                .collect(Collectors.joining());
+
+        redisTemplate.execute(
+                PUT_SCRIPT,
+                Stream.concat(Stream.of(itemKey(item.id()), ALL_KEY), OCCUPATION_KEYS.stream()).toList(),
+                member(item.id()),
+                String.valueOf(toEpochMilli(item.publishedDate())),
+                occupationFlags,
+                String.valueOf(item.teamId()),
+                item.title(),
+                String.valueOf(mask));
+    }
+
+    public void remove(Long announcementId) {
+        redisTemplate.execute(
+                REMOVE_SCRIPT,
+                Stream.concat(Stream.of(itemKey(announcementId), ALL_KEY), OCCUPATION_KEYS.stream()).toList(),
+                member(announcementId));
+    }
+
+    public boolean exists() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(ALL_KEY));
+    }
+
+    /**
+     * @param occupation 분류, null이면 전체
+     * @param cursor     이전 응답의 nextCursor, 첫 페이지는 null
+     */
+    public AnnouncementFeedResponse find(OccupationClassification occupation, String cursor, int size) {
+        String key = occupation == null ? ALL_KEY : occupationKey(occupation);
+        ZSetOperations<String, String> zSet = replicaRedisTemplate.opsForZSet();
+        List<ZSetOperations.TypedTuple<String>> entries = new ArrayList<>(size + 1);
+
+        String[] position = decodeCursor(cursor);
+        if (position == null) {
+            addAll(entries, zSet.reverseRangeWithScores(key, 0, size));
+        } else {
+            double score = Double.parseDouble(position[0]);
+            String member = position[1];
+            // 같은 시각에 게시된 공고 중 cursor 뒤의 공고
+            Set<ZSetOperations.TypedTuple<String>> ties = zSet.reverseRangeByScoreWithScores(key, score, score);
+            if (ties != null) {
+                ties.stream()
+                        .filter(tie -> tie.getValue() != null && tie.getValue().compareTo(member) < 0)
+                        .limit(size + 1L)
+                        .forEach(entries::add);
+            }
+            int remaining = size + 1 - entries.size();
+            if (remaining > 0) {
+                addAll(entries, zSet.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, score - 1, 0, remaining));
+            }
+        }
+
+        boolean hasNext = entries.size() > size;
+        List<ZSetOperations.TypedTuple<String>> page = hasNext ? entries.subList(0, size) : entries;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ZSetOperations.TypedTuple<String> last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getScore(), last.getValue());
+        }
+        return new AnnouncementFeedResponse(items(page), nextCursor, hasNext);
+    }
+
+    /**
+     * 항목 hash는 pipeline 한 번으로 가져옵니다. 그 사이 삭제된 공고는 건너뜁니다.
+     */
+    private List<AnnouncementFeedItem> items(List<ZSetOperations.TypedTuple<String>> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> hashes = replicaRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                byte[] key = itemKey(Long.parseLong(entry.getValue())).getBytes(StandardCharsets.UTF_8);
+                connection.hashCommands().hGetAll(key);
+            }
+            return null;
+        });
+
+        List<AnnouncementFeedItem> items = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> hash = (Map<String, String>) hashes.get(i);
+            if (hash == null || hash.isEmpty()) {
+                continue;
+            }
+            items.add(new AnnouncementFeedItem(
+                    Long.parseLong(entries.get(i).getValue()),
+                    Long.parseLong(hash.get("teamId")),
+                    hash.get("title"),
+                    Long.parseLong(hash.get("mask")),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(hash.get("publishedAt"))), ZoneId.systemDefault())));
+        }
+        return items;
+    }
+
+    private static void addAll(List<ZSetOperations.TypedTuple<String>> entries, Set<ZSetOperations.TypedTuple<String>> found) {
+        if (found != null) {
+            entries.addAll(found);
+        }
+    }
+
+    private static String encodeCursor(Double score, String member) {
+        String raw = score.longValue() + CURSOR_DELIMITER + member;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(CURSOR_DELIMITER);
+            String score = raw.substring(0, delimiter);
+            Long.parseLong(score);
+            return new String[]{score, raw.substring(delimiter + 1)};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CustomException(400, "Invalid cursor.");
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String member(Long announcementId) {
+        return String.format("%019d", announcementId);
+    }
+
+    private static String itemKey(Long announcementId) {
+        return ITEM_KEY_PREFIX + announcementId;
+    }
+
+    private static String occupationKey(OccupationClassification occupation) {
+        return OCCUPATION_KEY_PREFIX + occupation.name();
+    }
+}
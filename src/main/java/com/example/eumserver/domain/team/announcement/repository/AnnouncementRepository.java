@@ -1,8 +1,39 @@
 package com.example.eumserver.domain.team.announcement.repository;
 
 import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.global.entity.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface AnnouncementRepository extends JpaRepository<Announcement, Long>, AnnouncementCustomRepository {
 
+    @Query("select new com.example.eumserver.global.entity.ResourceVersion(a.version, a.timeStamp.updateAt) " +
+            "from Announcement a where a.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 마감일이 지난 공고를 {@code FOR UPDATE SKIP LOCKED}로 잠그고 가져옵니다.
+     * 수정 중인 공고는 건너뛰고 다음 실행에서 닫습니다.
+     * (closed, date_expired, team_announcement_id) index의 앞부분만 읽습니다.
+     */
+    @Query(value = "SELECT team_announcement_id FROM team_announcements " +
+            "WHERE closed = false AND date_expired <= :now " +
+            "ORDER BY date_expired, team_announcement_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockExpiredIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * version도 올려 조건부 조회의 ETag가 바뀌도록 합니다.
+     * @return 닫은 공고 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned Announcement a set a.closed = true, a.timeStamp.updateAt = :now " +
+            "where a.id in :ids")
+    int closeAll(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,131 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementChangedEvent;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import com.example.eumserver.global.cache.TwoTierCache;
+import com.example.eumserver.global.lock.RedisLock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마감일이 지난 공고를 주기적으로 닫는 작업
+ * 여러 서버 중 Redis 잠금을 얻은 한 곳에서만 실행하며, batch마다 별도 transaction으로 닫아 lock을 짧게 유지합니다.
+ * 한 번에 닫는 batch 수를 제한하여 잠금 TTL 안에 끝나도록 하고, 남은 공고는 다음 실행에서 닫습니다.
+ */
+@Slf4j
+@Component
+public class AnnouncementExpirySweeper {
+
+    static final String LOCK_NAME = "announcement:expiry-sweep";
+
+    private final AnnouncementRepository announcementRepository;
+    private final TwoTierCache<AnnouncementResponse> announcementCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RedisLock redisLock;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration lockTtl;
+
+    private final Timer sweepTimer;
+    private final DistributionSummary batchRows;
+
+    public AnnouncementExpirySweeper(
+            AnnouncementRepository announcementRepository,
+            TwoTierCache<AnnouncementResponse> announcementCache,
+            ApplicationEventPublisher eventPublisher,
+            RedisLock redisLock,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${announcement.expiry.batch-size:500}") int batchSize,
+            @Value("${announcement.expiry.max-batches:20}") int maxBatches,
+            @Value("${announcement.expiry.lock-ttl-ms:300000}") long lockTtlInMs) {
+        this.announcementRepository = announcementRepository;
+        this.announcementCache = announcementCache;
+        this.eventPublisher = eventPublisher;
+        this.redisLock = redisLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.lockTtl = Duration.ofMillis(lockTtlInMs);
+        this.sweepTimer = Timer.builder("announcement.expiry.sweep")
+                .description("time spent closing expired announcements")
+                .register(meterRegistry);
+        this.batchRows = DistributionSummary.builder("announcement.expiry.sweep.batch.rows")
+                .description("announcements closed per batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${announcement.expiry.sweep-interval-ms:60000}",
+            fixedDelayString = "${announcement.expiry.sweep-interval-ms:60000}")
+    public void sweep() {
+        String token;
+        try {
+            token = redisLock.tryLock(LOCK_NAME, lockTtl);
+        } catch (RuntimeException e) {
+            log.warn("announcement expiry sweep skipped: {}", e.getMessage());
+            return;
+        }
+        if (token == null) {
+            return;
+        }
+
+        try {
+            sweepTimer.record(() -> sweep(LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("announcement expiry sweep stopped: {}", e.getMessage());
+        } finally {
+            redisLock.unlock(LOCK_NAME, token);
+        }
+    }
+
+    /**
+     * @return 닫은 공고 수
+     */
+    int sweep(LocalDateTime now) {
+        int closed = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            Integer rows = transactionTemplate.execute(status -> closeBatch(now));
+            if (rows == null || rows == 0) {
+                break;
+            }
+            batchRows.record(rows);
+            closed += rows;
+        }
+        if (closed > 0) {
+            log.info("closed {} expired announcements", closed);
+        }
+        return closed;
+    }
+
+    /**
+     * 캐시는 commit 이후에도 한 번 더 지워지고, feed는 commit 이후에 반영됩니다.
+     */
+    private int closeBatch(LocalDateTime now) {
+        List<Long> ids = announcementRepository.lockExpiredIds(now, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        announcementRepository.closeAll(ids, now);
+        for (Long id : ids) {
+            announcementCache.evict(id);
+            eventPublisher.publishEvent(AnnouncementChangedEvent.closed(id));
+        }
+        return ids.size();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementChangedEvent;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedItem;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedResponse;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementFeedStore;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import com.example.eumserver.global.error.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전체 팀의 게시된 공고 feed
+ * 공고가 바뀔 때마다 commit 이후 MySQL에서 다시 읽어 {@link AnnouncementFeedStore}를 갱신하므로, 조회는 MySQL을 거치지 않습니다.
+ * event의 순서와 관계없이 마지막으로 commit된 상태가 반영됩니다.
+ * feed가 비어 있으면 시작할 때 MySQL로부터 다시 만듭니다.
+ */
+@Slf4j
+@Service
+public class AnnouncementFeedService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final AnnouncementFeedStore announcementFeedStore;
+    private final AnnouncementRepository announcementRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 재구성하는 동안 반영한 공고, 재구성 중이 아니면 null
+     * 재구성이 먼저 읽은 이전 상태로 덮어쓸 수 있으므로 재구성이 끝난 뒤 다시 반영합니다.
+     */
+    private volatile Set<Long> changedDuringRebuild;
+
+    public AnnouncementFeedService(
+            AnnouncementFeedStore announcementFeedStore,
+            AnnouncementRepository announcementRepository,
+            PlatformTransactionManager transactionManager) {
+        this.announcementFeedStore = announcementFeedStore;
+        this.announcementRepository = announcementRepository;
+        // commit 이후에 호출되므로 끝난 transaction에 참여하지 않도록 새로 시작합니다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * @param occupation 분류 값(예: development_backend), 없으면 전체
+     * @param cursor     이전 응답의 nextCursor, 첫 페이지는 null
+     */
+    public AnnouncementFeedResponse getFeed(String occupation, String cursor, int size) {
+        OccupationClassification occupationClassification = null;
+        if (occupation != null && !occupation.isBlank()) {
+            occupationClassification = OccupationClassification.from(occupation);
+            if (occupationClassification == null) {
+                throw new CustomException(400, "Invalid occupation.");
+            }
+        }
+        return announcementFeedStore.find(occupationClassification, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * 반영에 실패해도 공고 변경은 이미 commit되었으므로 요청을 실패시키지 않습니다.
+     */
+    @TransactionalEventListener
+    public void onChanged(AnnouncementChangedEvent event) {
+        try {
+            refresh(event.announcementId());
+        } catch (RuntimeException e) {
+            log.warn("failed to update announcement feed for {}: {}", event.announcementId(), e.getMessage());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            if (!announcementFeedStore.exists()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to rebuild announcement feed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 게시된 모든 공고를 feed에 다시 넣습니다.
+     * @return feed에 넣은 공고 수
+     */
+    public int rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        int count = 0;
+        try {
+            long afterId = 0L;
+            List<AnnouncementFeedItem> items;
+            while (!(items = announcementRepository.findPublishedFeedItems(afterId, REBUILD_BATCH_SIZE)).isEmpty()) {
+                items.forEach(announcementFeedStore::put);
+                count += items.size();
+                afterId = items.get(items.size() - 1).id();
+            }
+        } finally {
+            changedDuringRebuild = null;
+            changed.forEach(this::refresh);
+        }
+        log.info("announcement feed rebuilt with {} announcements", count);
+        return count;
+    }
+
+    /**
+     * 게시되었고 마감되지 않은 공고만 feed에 넣고, 나머지는 뺍니다.
+     */
+    private void refresh(Long announcementId) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(announcementId);
+        }
+        AnnouncementFeedItem item = transactionTemplate.execute(status -> announcementRepository.findById(announcementId)
+                .filter(announcement -> announcement.isPublished() && !announcement.isClosed())
+                .map(AnnouncementFeedItem::of)
+                .orElse(null));
+        if (item == null) {
+            announcementFeedStore.remove(announcementId);
+        } else {
+            announcementFeedStore.put(item);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.ResumeCandidate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 한 공고의 이력서 점수 계산기
+ * 점수는 직종 분류 점수(세부 직무까지 맞으면 1, 직무만 맞으면 0.5)와
+ * 이력서의 기술, 자격증 단어가 공고 제목과 본문의 단어와 겹치는 정도(두 단어 집합의 cosine 유사도)의 가중 합입니다.
+ * 점수가 0인 이력서는 후보가 아닙니다.
+ */
+final class AnnouncementMatcher {
+
+    /**
+     * 점수가 높은 순, 같으면 최근 등록된 이력서 순
+     */
+    static final Comparator<ResumeCandidate> RANKING = Comparator.comparingDouble(ResumeCandidate::score).reversed()
+            .thenComparing(ResumeCandidate::resumeId, Comparator.reverseOrder());
+
+    private static final double OCCUPATION_WEIGHT = 0.7;
+    private static final double KEYWORD_WEIGHT = 0.3;
+    private static final double JOB_CATEGORY_ONLY_SCORE = 0.5;
+    private static final int MIN_KEYWORD_LENGTH = 2;
+    private static final Pattern KEYWORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}+#.]+");
+    private static final Pattern SURROUNDING_DOTS = Pattern.compile("^\\.+|\\.+$");
+
+    /**
+     * 점수 계산에 쓰는 이력서 값, 이력서가 바뀔 때 한 번만 만듭니다.
+     *
+     * @param occupation 직무와 세부 직무를 직종 분류 값과 같은 모양으로 이은 값, 예: development_backend
+     * @param keywords   기술과 자격증의 단어, 중복 없음
+     */
+    record Profile(
+            ResumeSearchResult resume,
+            String jobCategory,
+            String occupation,
+            String[] keywords
+    ) {
+    }
+
+    /**
+     * @param candidates     점수 순 상위 후보
+     * @param candidateCount 점수가 0보다 큰 전체 이력서 수
+     */
+    record Ranking(
+            List<ResumeCandidate> candidates,
+            int candidateCount
+    ) {
+    }
+
+    private final Set<String> jobCategories = new HashSet<>();
+    private final Set<String> occupations = new HashSet<>();
+    private final Set<String> keywords;
+
+    AnnouncementMatcher(long occupationMask, String title, String description) {
+        for (OccupationClassification occupationClassification : OccupationClassification.fromMask(occupationMask)) {
+            jobCategories.add(occupationClassification.getJobCategory());
+            occupations.add(occupationClassification.getValue());
+        }
+        this.keywords = Stream.concat(keywords(title), keywords(description))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    static Profile profile(ResumeSearchResult resume) {
+        String jobCategory = normalize(resume.jobCategory());
+        String jobSubcategory = normalize(resume.jobSubcategory());
+        String occupation = jobCategory == null || jobSubcategory == null ? jobCategory : jobCategory + "_" + jobSubcategory;
+        String[] keywords = Stream.concat(
+                        resume.technologies() == null ? Stream.empty() : resume.technologies().stream(),
+                        resume.certificates() == null ? Stream.empty() : resume.certificates().stream())
+                .flatMap(AnnouncementMatcher::keywords)
+                .distinct()
+                .toArray(String[]::new);
+        return new Profile(resume, jobCategory, occupation, keywords);
+    }
+
+    double score(Profile profile) {
+        double occupation = occupations.contains(profile.occupation()) ? 1.0
+                : jobCategories.contains(profile.jobCategory()) ? JOB_CATEGORY_ONLY_SCORE : 0.0;
+
+        int overlap = 0;
+        for (String keyword : profile.keywords()) {
+            if (keywords.contains(keyword)) {
+                overlap++;
+            }
+        }
+        double keyword = overlap == 0 ? 0.0 : overlap / Math.sqrt((double) keywords.size() * profile.keywords().length);
+        return OCCUPATION_WEIGHT * occupation + KEYWORD_WEIGHT * keyword;
+    }
+
+    /**
+     * @return 점수가 0이면 null
+     */
+    ResumeCandidate candidate(Profile profile) {
+        double score = score(profile);
+        if (score <= 0) {
+            return null;
+        }
+        ResumeSearchResult resume = profile.resume();
+        return new ResumeCandidate(resume.id(), resume.userId(), resume.title(), resume.jobCategory(), resume.jobSubcategory(), score);
+    }
+
+    /**
+     * 상위 {@code capacity}개의 후보를 고릅니다. parallel stream을 넘기면 fork-join으로 나눠 점수를 매기고,
+     * 나눈 조각마다 크기가 {@code capacity}인 heap에 남긴 뒤 합칩니다.
+     */
+    Ranking rank(Stream<Profile> profiles, int capacity) {
+        return profiles
+                .map(this::candidate)
+                .filter(Objects::nonNull)
+                .collect(Collector.of(
+                        () -> new TopCandidates(capacity),
+                        TopCandidates::offer,
+                        TopCandidates::merge,
+                        TopCandidates::toRanking));
+    }
+
+    private static Stream<String> keywords(String text) {
+        if (text == null) {
+            return Stream.empty();
+        }
+        return KEYWORD_DELIMITER.splitAsStream(text.toLowerCase(Locale.ROOT))
+                .map(keyword -> SURROUNDING_DOTS.matcher(keyword).replaceAll(""))
+                .filter(keyword -> keyword.length() >= MIN_KEYWORD_LENGTH);
+    }
+
+    /**
+     * 직종 분류 값과 비교할 수 있도록 소문자로 바꾸고 공백은 밑줄로 바꿉니다.
+     */
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", "_");
+    }
+
+    /**
+     * 순위가 가장 낮은 후보가 head인 heap
+     */
+    private static final class TopCandidates {
+
+        private final int capacity;
+        private final PriorityQueue<ResumeCandidate> heap = new PriorityQueue<>(RANKING.reversed());
+        private int count;
+
+        TopCandidates(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(ResumeCandidate candidate) {
+            count++;
+            keep(candidate);
+        }
+
+        TopCandidates merge(TopCandidates other) {
+            other.heap.forEach(this::keep);
+            count += other.count;
+            return this;
+        }
+
+        Ranking toRanking() {
+            List<ResumeCandidate> candidates = new ArrayList<>(heap);
+            candidates.sort(RANKING);
+            return new Ranking(candidates, count);
+        }
+
+        private void keep(ResumeCandidate candidate) {
+            if (heap.size() < capacity) {
+                heap.add(candidate);
+            } else if (capacity > 0 && RANKING.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.domain.resume.ResumeIndexRebuiltEvent;
+import com.example.eumserver.domain.resume.ResumeIndexedEvent;
+import com.example.eumserver.domain.resume.ResumeSearchService;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementChangedEvent;
+import com.example.eumserver.domain.team.announcement.dto.ResumeCandidate;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import com.example.eumserver.global.error.CustomException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 공고에 맞는 공개 이력서 추천
+ * 공고마다 점수 순 상위 후보를 미리 계산해 서버의 로컬 캐시에 두고, 조회는 캐시에서 바로 반환합니다.
+ * 공고가 게시되면 commit 이후 후보를 계산하고, 수정되거나 삭제되면 캐시에서 지우며 {@link #CHANNEL}로 다른 서버에도 알립니다.
+ * 이력서는 {@link ResumeSearchService}가 색인한 문서를 그대로 사용하고,
+ * 이력서가 바뀌면 캐시된 모든 후보 목록에서 그 이력서의 점수만 다시 계산합니다.
+ */
+@Slf4j
+@Service
+public class AnnouncementMatchingService implements MessageListener {
+
+    public static final String CHANNEL = "announcement:matching";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 점수를 매기는 동안 이력서가 바뀌면 다시 계산하는 최대 횟수, 넘기면 캐시에 두지 않고 다음 조회 때 다시 계산합니다.
+     */
+    private static final int MAX_COMPUTE_ATTEMPTS = 3;
+
+    private final ResumeSearchService resumeSearchService;
+    private final AnnouncementRepository announcementRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int topK;
+    private final ForkJoinPool pool;
+    private final Cache<Long, CandidateList> candidates;
+
+    /**
+     * 자신이 발행한 메시지는 이미 반영했으므로 무시합니다.
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile Map<Long, AnnouncementMatcher.Profile> profiles = new ConcurrentHashMap<>();
+    private final AtomicLong profileVersion = new AtomicLong();
+
+    public AnnouncementMatchingService(
+            ResumeSearchService resumeSearchService,
+            AnnouncementRepository announcementRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            PlatformTransactionManager transactionManager,
+            @Value("${announcement.matching.top-k:100}") int topK,
+            @Value("${announcement.matching.cache-size:10000}") long cacheSize,
+            @Value("${announcement.matching.ttl-ms:3600000}") long ttlInMs,
+            @Value("${announcement.matching.parallelism:0}") int parallelism) {
+        this.resumeSearchService = resumeSearchService;
+        this.announcementRepository = announcementRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        // commit 이후에 호출되므로 끝난 transaction에 참여하지 않도록 새로 시작합니다.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.topK = topK;
+        // 점수 계산이 공용 pool을 차지하지 않도록 전용 fork-join pool에서 parallel stream을 실행합니다.
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.candidates = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMillis(ttlInMs))
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * @param size 최대 top-k개
+     */
+    public List<ResumeCandidate> getCandidates(Long announcementId, int size) {
+        CandidateList candidateList = cached(announcementId);
+        if (candidateList == null) {
+            throw new CustomException(400, "Announcement not found.");
+        }
+        return candidateList.top(Math.max(1, Math.min(size, topK)));
+    }
+
+    /**
+     * 계산 중인 목록은 캐시에 보이지 않아 그동안 바뀐 이력서가 반영되지 않습니다.
+     * 버전이 뒤처진 목록은 캐시에서 지우고 다시 계산하며, 계속 뒤처지면 마지막 목록을 캐시에 두지 않고 이번 조회에만 씁니다.
+     * @return 공고가 없으면 null
+     */
+    private CandidateList cached(Long announcementId) {
+        CandidateList candidateList = null;
+        for (int attempt = 0; attempt < MAX_COMPUTE_ATTEMPTS; attempt++) {
+            candidateList = candidates.get(announcementId, this::compute);
+            if (candidateList == null || candidateList.version() == profileVersion.get()) {
+                return candidateList;
+            }
+            candidates.asMap().remove(announcementId, candidateList);
+        }
+        return candidateList;
+    }
+
+    /**
+     * 게시된 공고는 조회 전에 후보를 미리 계산합니다. 실패해도 조회할 때 다시 계산합니다.
+     */
+    @Async
+    @TransactionalEventListener
+    public void onAnnouncementChanged(AnnouncementChangedEvent event) {
+        try {
+            candidates.invalidate(event.announcementId());
+            redisTemplate.convertAndSend(CHANNEL, instanceId + DELIMITER + event.announcementId());
+            if (event.feedItem() != null) {
+                cached(event.announcementId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to compute resume candidates for {}: {}", event.announcementId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 바뀐 공고의 후보를 지웁니다. 다음 조회 때 다시 계산합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(DELIMITER);
+        if (delimiter < 0 || body.substring(0, delimiter).equals(instanceId)) {
+            return;
+        }
+        try {
+            candidates.invalidate(Long.parseLong(body.substring(delimiter + 1)));
+        } catch (RuntimeException e) {
+            log.warn("failed to apply announcement matching message {}: {}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * 바뀐 이력서만 캐시된 후보 목록마다 다시 점수를 매깁니다.
+     * 상위 후보 밖으로 밀려난 이력서를 알 수 없어 목록이 top-k보다 짧아지거나, 앞선 변경을 반영하지 못한 목록은 지웁니다.
+     */
+    @EventListener
+    public void onResumeIndexed(ResumeIndexedEvent event) {
+        AnnouncementMatcher.Profile profile = event.document() == null ? null : AnnouncementMatcher.profile(event.document());
+        if (profile == null) {
+            profiles.remove(event.resumeId());
+        } else {
+            profiles.put(event.resumeId(), profile);
+        }
+        long version = profileVersion.incrementAndGet();
+
+        for (Map.Entry<Long, CandidateList> entry : candidates.asMap().entrySet()) {
+            if (!entry.getValue().update(event.resumeId(), profile, version)) {
+                candidates.asMap().remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 검색 index를 새로 만들면 이력서 전체를 다시 읽고 캐시를 비웁니다.
+     */
+    @EventListener
+    public void onResumeIndexRebuilt(ResumeIndexRebuiltEvent event) {
+        profiles = resumeSearchService.documents().stream()
+                .collect(Collectors.toMap(ResumeSearchResult::id, AnnouncementMatcher::profile,
+                        (first, second) -> second, ConcurrentHashMap::new));
+        profileVersion.incrementAndGet();
+        candidates.invalidateAll();
+        log.info("announcement matching loaded {} resumes", event.size());
+    }
+
+    /**
+     * 이력서가 바뀌어 밀려난 후보를 채울 수 있도록 top-k의 두 배까지 계산해 둡니다.
+     * @return 공고가 없으면 null
+     */
+    private CandidateList compute(Long announcementId) {
+        AnnouncementMatcher matcher = transactionTemplate.execute(status -> announcementRepository.findById(announcementId)
+                .map(announcement -> new AnnouncementMatcher(
+                        announcement.getOccupationMask(), announcement.getTitle(), announcement.getDescription()))
+                .orElse(null));
+        if (matcher == null) {
+            return null;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        AnnouncementMatcher.Ranking ranking;
+        int attempts = 0;
+        long version;
+        do {
+            version = profileVersion.get();
+            Map<Long, AnnouncementMatcher.Profile> snapshot = profiles;
+            ranking = pool.submit(() -> matcher.rank(snapshot.values().parallelStream(), 2 * topK)).join();
+        } while (version != profileVersion.get() && ++attempts < MAX_COMPUTE_ATTEMPTS);
+        log.debug("matched {} resumes for announcement {} in {} ms",
+                ranking.candidateCount(), announcementId, System.currentTimeMillis() - startedAt);
+        return new CandidateList(matcher, ranking, topK, version);
+    }
+}
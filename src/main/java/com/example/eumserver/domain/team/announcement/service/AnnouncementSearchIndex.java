@@ -0,0 +1,72 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공고 제목과 본문의 FULLTEXT(ngram) index
+ * V4 migration이 만들며, 운영 중에 지워졌다면 시작할 때 다시 만듭니다.
+ * InnoDB가 공고 저장과 함께 index를 갱신하며, 변경은 commit 시점에 검색에 반영됩니다.
+ * {@code --announcement.search.rebuild-on-startup=true}로 실행하면 index를 지우고 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class AnnouncementSearchIndex {
+
+    static final String INDEX_NAME = "ft_team_announcements_title_description";
+
+    private static final String EXISTS_SQL = """
+            SELECT COUNT(*)
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'team_announcements' AND index_name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean rebuildOnStartup;
+
+    public AnnouncementSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${announcement.search.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * 검색 요청을 받기 전에 index가 있어야 하므로 동기로 실행합니다.
+     * 공고가 많은 테이블에 처음 만들 때는 테이블을 다시 쓰므로 시간이 걸립니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (rebuildOnStartup) {
+            rebuild();
+        } else if (!exists()) {
+            create();
+        }
+    }
+
+    public boolean exists() {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, INDEX_NAME);
+        return count != null && count > 0;
+    }
+
+    /**
+     * index를 지우고 다시 만듭니다. 삭제가 많아 index가 비대해졌거나 ngram 설정을 바꾼 경우에 사용합니다.
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        if (exists()) {
+            jdbcTemplate.execute("ALTER TABLE team_announcements DROP INDEX " + INDEX_NAME);
+        }
+        create();
+        log.info("announcement search index rebuilt in {} ms", System.currentTimeMillis() - startedAt);
+    }
+
+    private void create() {
+        jdbcTemplate.execute("ALTER TABLE team_announcements ADD FULLTEXT INDEX " + INDEX_NAME
+                + " (title, description) WITH PARSER ngram");
+    }
+}
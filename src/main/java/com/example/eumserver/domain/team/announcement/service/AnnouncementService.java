@@ -3,24 +3,30 @@ package com.example.eumserver.domain.team.announcement.service;
 import com.example.eumserver.domain.team.Team;
 import com.example.eumserver.domain.team.TeamService;
 import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementChangedEvent;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementCursor;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementRequest;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSearchResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSlice;
 import com.example.eumserver.domain.team.announcement.dto.AnnouncementUpdateRequest;
 import com.example.eumserver.domain.team.announcement.mapper.AnnouncementMapper;
 import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import com.example.eumserver.global.cache.TwoTierCache;
+import com.example.eumserver.global.entity.ResourceVersion;
 import com.example.eumserver.global.error.CustomException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,17 +35,69 @@ public class AnnouncementService {
 
     private final AnnouncementRepository announcementRepository;
 
+    private static final int PAGE_SIZE = 12;
+
+    /**
+     * ngram_token_size 기본값, 이보다 짧은 검색어는 index에 없습니다.
+     */
+    private static final int MIN_SEARCH_TERM_LENGTH = 2;
+    private static final int MAX_SEARCH_TERMS = 10;
+
     private final TeamService teamService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final TwoTierCache<AnnouncementResponse> announcementCache;
+
     public Page<AnnouncementResponse> getFilteredAnnouncementsWithPaging(
             Long teamId,
             int page,
+            AnnouncementSort sort,
+            AnnouncementFilter filter
+    ) {
+        return announcementRepository.getFilteredAnnouncementsWithPaging(
+                teamId, filter, sort, PageRequest.of(page, PAGE_SIZE));
+    }
+
+    /**
+     * 페이지 번호 대신 cursor로 다음 공고를 조회합니다. 전체 개수는 계산하지 않습니다.
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @param sort   cursor를 받을 때와 같은 정렬
+     */
+    public AnnouncementSlice getFilteredAnnouncementsWithCursor(
+            Long teamId,
+            String cursor,
+            AnnouncementSort sort,
             AnnouncementFilter filter
     ) {
-        List<Sort.Order> sorts = new ArrayList<>();
-        sorts.add(Sort.Order.desc("date_created"));
-        Pageable pageable = PageRequest.of(page, 12, Sort.by(sorts));
-        return announcementRepository.getFilteredAnnouncementsWithPaging(teamId, filter, pageable);
+        return announcementRepository.getFilteredAnnouncementsWithCursor(
+                teamId, filter, sort, AnnouncementCursor.decode(cursor, sort), PAGE_SIZE);
+    }
+
+    /**
+     * 모든 팀의 공고를 제목과 본문으로 검색합니다. 모든 검색어를 포함한 공고를 관련도 순으로 반환합니다.
+     * @param filter 검색 결과에 추가로 적용할 조건, 없으면 null
+     */
+    public AnnouncementSearchResponse searchAnnouncements(String query, int page, AnnouncementFilter filter) {
+        String booleanQuery = toBooleanQuery(query);
+        if (booleanQuery.isEmpty()) {
+            throw new CustomException(400, "Search query is too short.");
+        }
+        return announcementRepository.searchAnnouncements(booleanQuery, filter, Math.max(page, 0), PAGE_SIZE);
+    }
+
+    /**
+     * 사용자 입력에서 boolean mode 연산자를 지우고, 각 검색어를 필수(+) 조건으로 만듭니다.
+     */
+    static String toBooleanQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        return Arrays.stream(query.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+"))
+                .filter(term -> term.length() >= MIN_SEARCH_TERM_LENGTH)
+                .limit(MAX_SEARCH_TERMS)
+                .map(term -> "+" + term)
+                .collect(Collectors.joining(" "));
     }
 
     @Transactional
@@ -54,6 +112,7 @@ public class AnnouncementService {
         }
 
         announcementRepository.save(announcement);
+        eventPublisher.publishEvent(AnnouncementChangedEvent.of(announcement));
         return AnnouncementMapper.INSTANCE.entityToResponse(announcement);
     }
 
@@ -62,6 +121,8 @@ public class AnnouncementService {
         Announcement announcement = this.findAnnouncementById(announcementId);
         announcement.updateAnnouncement(announcementUpdateRequest);
         announcementRepository.save(announcement);
+        announcementCache.evict(announcementId);
+        eventPublisher.publishEvent(AnnouncementChangedEvent.of(announcement));
     }
 
 
@@ -69,6 +130,23 @@ public class AnnouncementService {
     public void deleteAnnouncement(Long announcementId) {
         Announcement announcement = this.findAnnouncementById(announcementId);
         announcementRepository.delete(announcement);
+        announcementCache.evict(announcementId);
+        eventPublisher.publishEvent(AnnouncementChangedEvent.deleted(announcementId));
+    }
+
+    /**
+     * 로컬 캐시, Redis, DB 순서로 조회합니다.
+     */
+    public AnnouncementResponse getAnnouncement(Long announcementId) {
+        return announcementCache.get(announcementId,
+                () -> AnnouncementMapper.INSTANCE.entityToResponse(findAnnouncementById(announcementId)));
+    }
+
+    /**
+     * 조건부 조회용 version, 공고가 없으면 null
+     */
+    public ResourceVersion getAnnouncementVersion(Long announcementId) {
+        return announcementRepository.findVersionById(announcementId).orElse(null);
     }
 
     public Announcement findAnnouncementById(Long announcementId) {
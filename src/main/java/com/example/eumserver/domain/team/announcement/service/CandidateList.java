@@ -0,0 +1,75 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.domain.team.announcement.dto.ResumeCandidate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 공고의 점수 순 후보 목록
+ * 이력서가 바뀌어 밀려난 후보를 채울 수 있도록 top-k의 두 배까지 보관합니다.
+ * 계산한 목록이 가득 찼다면 목록 밖의 이력서가 있으므로, 마지막 후보보다 낮은 이력서는 넣지 않습니다.
+ * 이력서 변경마다 하나씩 오르는 버전을 함께 두어, 반영하지 못한 변경이 있는 목록을 알아냅니다.
+ */
+final class CandidateList {
+
+    private final AnnouncementMatcher matcher;
+    private final int topK;
+    private final int capacity;
+    private final List<ResumeCandidate> ranked;
+    private boolean truncated;
+    private long version;
+
+    /**
+     * @param ranking {@code 2 * topK}개까지 고른 결과
+     * @param version 계산을 시작할 때의 이력서 버전
+     */
+    CandidateList(AnnouncementMatcher matcher, AnnouncementMatcher.Ranking ranking, int topK, long version) {
+        this.matcher = matcher;
+        this.topK = topK;
+        this.capacity = 2 * topK;
+        this.ranked = new ArrayList<>(ranking.candidates());
+        this.truncated = ranking.candidateCount() > ranked.size();
+        this.version = version;
+    }
+
+    /**
+     * @return 반영한 마지막 이력서 변경의 버전
+     */
+    synchronized long version() {
+        return version;
+    }
+
+    synchronized List<ResumeCandidate> top(int size) {
+        return List.copyOf(ranked.subList(0, Math.min(size, ranked.size())));
+    }
+
+    /**
+     * @param profile 삭제되었거나 비공개로 바뀌었으면 null
+     * @param version 이 변경의 이력서 버전
+     * @return 앞선 변경을 반영하지 못했거나 목록만으로 top-k를 보장할 수 없으면 false
+     */
+    synchronized boolean update(Long resumeId, AnnouncementMatcher.Profile profile, long version) {
+        if (version != this.version + 1) {
+            return false;
+        }
+        this.version = version;
+        ranked.removeIf(candidate -> candidate.resumeId().equals(resumeId));
+        ResumeCandidate candidate = profile == null ? null : matcher.candidate(profile);
+        if (candidate != null && ranksInList(candidate)) {
+            int position = -(Collections.binarySearch(ranked, candidate, AnnouncementMatcher.RANKING) + 1);
+            ranked.add(position, candidate);
+            if (ranked.size() > capacity) {
+                ranked.remove(ranked.size() - 1);
+                truncated = true;
+            }
+        }
+        return !truncated || ranked.size() >= topK;
+    }
+
+    private boolean ranksInList(ResumeCandidate candidate) {
+        return !truncated
+                || (!ranked.isEmpty() && AnnouncementMatcher.RANKING.compare(candidate, ranked.get(ranked.size() - 1)) < 0);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.eumserver.domain.team.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Team 조회 Dto
+ */
+public record TeamResponse(
+    Long id,
+    String name,
+    String email,
+    String logo,
+    String phoneNumber,
+    LocalDateTime formationDate,
+    String introduction,
+    Long version
+) { }
@@ -0,0 +1,86 @@
+package com.example.eumserver.domain.team.invite;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 초대 메일 outbox
+ * {@link Invite}와 같은 transaction에서 저장되고, {@link InviteMailDispatcher}가 별도 thread에서 발송합니다.
+ * 발송 중인 메일은 PENDING 상태 그대로 nextAttemptAt을 lease 만료 시각으로 미뤄 두므로,
+ * 발송하던 서버가 죽어도 lease가 끝나면 다시 발송됩니다.
+ */
+@Entity
+@Table(name = "invite_mails")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InviteMail {
+
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "invite_mail_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "invite_id", nullable = false)
+    private Invite invite;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private InviteMailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = ERROR_MAX_LENGTH)
+    private String lastError;
+
+    public InviteMail(Invite invite, String recipient) {
+        this.invite = invite;
+        this.recipient = recipient;
+        this.status = InviteMailStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void lease(LocalDateTime until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.attempts++;
+        this.status = InviteMailStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * @param retryAt     다음 발송 시각
+     * @param maxAttempts 이 횟수만큼 실패하면 더 이상 재시도하지 않습니다.
+     */
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > ERROR_MAX_LENGTH
+                ? error.substring(0, ERROR_MAX_LENGTH)
+                : error;
+        if (this.attempts >= maxAttempts) {
+            this.status = InviteMailStatus.FAILED;
+        } else {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
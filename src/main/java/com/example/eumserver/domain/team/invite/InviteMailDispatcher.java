@@ -0,0 +1,230 @@
+package com.example.eumserver.domain.team.invite;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * {@link InviteMail} outbox를 비우는 발송기
+ * 정해진 수의 worker가 각자 메일을 batch 단위로 가져와, 한 번의 SMTP 연결로 batch 전체를 보냅니다.
+ * 실패한 메일은 지수적으로 늘어나는 간격으로 재시도하며, 최대 횟수를 넘기면 FAILED로 남깁니다.
+ */
+@Slf4j
+@Component
+public class InviteMailDispatcher {
+
+    private final InviteMailRepository inviteMailRepository;
+    private final JavaMailSender mailSender;
+    private final InviteMailRenderer renderer;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore workers;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseInMs;
+    private final long retryBaseDelayInMs;
+    private final long retryMaxDelayInMs;
+
+    public InviteMailDispatcher(
+            InviteMailRepository inviteMailRepository,
+            JavaMailSender mailSender,
+            InviteMailRenderer renderer,
+            PlatformTransactionManager transactionManager,
+            @Value("${invite.mail.workers:4}") int workerCount,
+            @Value("${invite.mail.batch-size:20}") int batchSize,
+            @Value("${invite.mail.max-attempts:5}") int maxAttempts,
+            @Value("${invite.mail.lease-ms:60000}") long leaseInMs,
+            @Value("${invite.mail.retry-base-delay-ms:5000}") long retryBaseDelayInMs,
+            @Value("${invite.mail.retry-max-delay-ms:600000}") long retryMaxDelayInMs) {
+        this.inviteMailRepository = inviteMailRepository;
+        this.mailSender = mailSender;
+        this.renderer = renderer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workerCount = workerCount;
+        this.workers = new Semaphore(workerCount);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseInMs = leaseInMs;
+        this.retryBaseDelayInMs = retryBaseDelayInMs;
+        this.retryMaxDelayInMs = retryMaxDelayInMs;
+
+        // SMTPTransport는 socket I/O를 synchronized 안에서 수행하므로 virtual thread 모드에서도 platform thread를 사용합니다.
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(workerCount);
+        this.executor.setMaxPoolSize(workerCount);
+        this.executor.setQueueCapacity(workerCount);
+        this.executor.setThreadNamePrefix("invite-mail-");
+        this.executor.initialize();
+    }
+
+    /**
+     * 초대가 commit되면 polling을 기다리지 않고 바로 발송을 시작합니다.
+     */
+    @TransactionalEventListener
+    public void onQueued(InviteMailQueuedEvent event) {
+        int batches = (event.count() + batchSize - 1) / batchSize;
+        for (int i = 0; i < Math.min(batches, workerCount); i++) {
+            trigger();
+        }
+    }
+
+    /**
+     * 재시도 대기 중이거나 lease가 만료된 메일을 주기적으로 발송합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${invite.mail.poll-interval-ms:5000}",
+            fixedDelayString = "${invite.mail.poll-interval-ms:5000}")
+    public void poll() {
+        for (int i = 0; i < workerCount; i++) {
+            trigger();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 쉬고 있는 worker가 있으면 outbox를 비우는 작업을 하나 시작합니다.
+     */
+    private void trigger() {
+        if (!workers.tryAcquire()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    workers.release();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            workers.release();
+        }
+    }
+
+    private void drain() {
+        try {
+            List<InviteMailJob> jobs;
+            while (!(jobs = claim()).isEmpty()) {
+                complete(jobs, send(jobs));
+            }
+        } catch (RuntimeException e) {
+            log.warn("invite mail dispatch stopped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 발송할 메일을 lease와 함께 가져옵니다. lease 동안에는 다른 worker가 가져가지 않습니다.
+     */
+    private List<InviteMailJob> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<InviteMail> mails = inviteMailRepository.findClaimable(
+                    InviteMailStatus.PENDING, now, PageRequest.of(0, batchSize));
+            if (mails.isEmpty()) {
+                return List.of();
+            }
+
+            LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseInMs));
+            mails.forEach(mail -> mail.lease(leaseUntil));
+            return inviteMailRepository.findJobsByIdIn(mails.stream().map(InviteMail::getId).toList());
+        });
+    }
+
+    /**
+     * batch의 메일을 한 번의 SMTP 연결로 보냅니다.
+     * @return 실패한 메일 ID와 실패 사유
+     */
+    private Map<Long, String> send(List<InviteMailJob> jobs) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, InviteMailJob> messages = new LinkedHashMap<>();
+
+        for (InviteMailJob job : jobs) {
+            try {
+                messages.put(createMessage(job), job);
+            } catch (MessagingException e) {
+                failures.put(job.id(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(job -> failures.put(job.id(), e.getMessage()));
+            }
+            e.getFailedMessages().forEach((message, exception) -> {
+                InviteMailJob job = messages.get(message);
+                if (job != null) {
+                    failures.put(job.id(), exception.getMessage());
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(job -> failures.put(job.id(), e.getMessage()));
+        }
+        return failures;
+    }
+
+    private void complete(List<InviteMailJob> jobs, Map<Long, String> failures) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (InviteMail mail : inviteMailRepository.findAllById(jobs.stream().map(InviteMailJob::id).toList())) {
+                if (!failures.containsKey(mail.getId())) {
+                    mail.markSent(now);
+                    continue;
+                }
+
+                String error = failures.get(mail.getId());
+                mail.markFailed(error, now.plus(Duration.ofMillis(retryDelayInMs(mail.getAttempts()))), maxAttempts);
+                log.warn("invite mail {} failed (attempt {}): {}", mail.getId(), mail.getAttempts(), error);
+            }
+        });
+    }
+
+    /**
+     * @param attempts 지금까지 실패한 횟수
+     */
+    private long retryDelayInMs(int attempts) {
+        long delay = retryBaseDelayInMs << Math.min(attempts, 20);
+        return Math.min(delay, retryMaxDelayInMs);
+    }
+
+    private MimeMessage createMessage(InviteMailJob job) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
+        messageHelper.setTo(job.recipient());
+        messageHelper.setSubject(renderer.subject(job.teamName()));
+        messageHelper.setText(renderer.html(job.teamName(), job.token()), true);
+        return message;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.eumserver.domain.team.invite;
+
+/**
+ * 발송 thread로 넘기는 메일 한 통의 정보, 영속성 컨텍스트 밖에서도 사용할 수 있습니다.
+ */
+public record InviteMailJob(
+        Long id,
+        String recipient,
+        String teamName,
+        String token
+) {
+}
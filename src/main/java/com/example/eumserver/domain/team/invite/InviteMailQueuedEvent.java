@@ -0,0 +1,10 @@
+package com.example.eumserver.domain.team.invite;
+
+/**
+ * 초대 메일이 outbox에 저장되었음을 알리는 이벤트, transaction commit 이후에 처리됩니다.
+ */
+public record InviteMailQueuedEvent(
+        Long inviteId,
+        int count
+) {
+}
@@ -0,0 +1,209 @@
+package com.example.eumserver.domain.team.invite;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.unbescape.html.HtmlEscape;
+import org.unbescape.uri.UriEscape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 초대 메일 렌더러
+ * 시작할 때 invite 템플릿을 sentinel 값으로 한 번 렌더링하여 고정된 HTML 조각과 변수 자리로 나눠 두고,
+ * 메일마다 변수 자리에 escape한 team 이름과 토큰만 채워 넣습니다.
+ * team 이름까지의 앞부분과 제목은 team 이름별로 memo합니다.
+ * 템플릿이 바뀌어 결과가 Thymeleaf와 달라지면 매번 Thymeleaf로 렌더링합니다.
+ */
+@Slf4j
+@Component
+public class InviteMailRenderer {
+
+    private static final String TEMPLATE = "invite";
+    private static final String CONTEXT_TEAM_NAME = "team_name";
+    private static final String CONTEXT_INVITE_TOKEN = "token";
+
+    private static final String TEAM_NAME_SENTINEL = "EumTeamNameSentinel7f3a";
+    private static final String TOKEN_SENTINEL = "EumInviteTokenSentinel9c1d";
+
+    private final SpringTemplateEngine templateEngine;
+    private final int memoSize;
+    private final Map<String, TeamFragment> memo = new ConcurrentHashMap<>();
+
+    /**
+     * 고정 HTML 조각은 String, 변수 자리는 {@link Slot}
+     * 사용할 수 없으면 null 입니다.
+     */
+    private final List<Object> parts;
+    private final int staticLength;
+
+    /**
+     * 첫 토큰 자리 앞까지의 조각 수, 이 조각들은 team 이름에만 의존합니다.
+     */
+    private final int headPartCount;
+
+    private enum Slot {
+        TEAM_NAME,
+        TOKEN
+    }
+
+    private record TeamFragment(String subject, String head) {
+    }
+
+    public InviteMailRenderer(
+            SpringTemplateEngine templateEngine,
+            @Value("${invite.mail.render-memo-size:1000}") int memoSize) {
+        this.templateEngine = templateEngine;
+        this.memoSize = memoSize;
+        this.parts = compile();
+        this.staticLength = parts == null ? 0 : parts.stream()
+                .filter(String.class::isInstance)
+                .mapToInt(part -> ((String) part).length())
+                .sum();
+        int firstToken = parts == null ? -1 : parts.indexOf(Slot.TOKEN);
+        this.headPartCount = firstToken >= 0 ? firstToken : (parts == null ? 0 : parts.size());
+    }
+
+    /**
+     * team 이름을 포함한 이메일 제목
+     */
+    public String subject(String teamName) {
+        return fragment(teamName).subject();
+    }
+
+    public String html(String teamName, String token) {
+        if (parts == null) {
+            return process(teamName, token);
+        }
+
+        TeamFragment fragment = fragment(teamName);
+        String escapedTeamName = null;
+        String escapedToken = escapeToken(token);
+
+        StringBuilder html = new StringBuilder(staticLength + fragment.head().length() + 64);
+        html.append(fragment.head());
+        for (int i = headPartCount; i < parts.size(); i++) {
+            Object part = parts.get(i);
+            if (part == Slot.TOKEN) {
+                html.append(escapedToken);
+            } else if (part == Slot.TEAM_NAME) {
+                if (escapedTeamName == null) {
+                    escapedTeamName = escapeTeamName(teamName);
+                }
+                html.append(escapedTeamName);
+            } else {
+                html.append((String) part);
+            }
+        }
+        return html.toString();
+    }
+
+    /**
+     * 제목과, 첫 토큰 자리 전까지의 HTML은 team 이름에만 의존하므로 memo합니다.
+     */
+    private TeamFragment fragment(String teamName) {
+        TeamFragment fragment = memo.get(teamName);
+        if (fragment != null) {
+            return fragment;
+        }
+
+        fragment = new TeamFragment("[이음] " + teamName + " 팀에서 초대", head(teamName));
+        if (memoSize > 0) {
+            if (memo.size() >= memoSize) {
+                memo.clear();
+            }
+            memo.put(teamName, fragment);
+        }
+        return fragment;
+    }
+
+    private String head(String teamName) {
+        if (parts == null) {
+            return "";
+        }
+
+        String escapedTeamName = escapeTeamName(teamName);
+        StringBuilder head = new StringBuilder();
+        for (int i = 0; i < headPartCount; i++) {
+            Object part = parts.get(i);
+            head.append(part == Slot.TEAM_NAME ? escapedTeamName : (String) part);
+        }
+        return head.toString();
+    }
+
+    /**
+     * sentinel 값으로 렌더링한 결과를 고정 조각과 변수 자리로 나눕니다.
+     * 나눈 결과로 다시 만든 HTML이 Thymeleaf 결과와 다르면 사용하지 않습니다.
+     */
+    private List<Object> compile() {
+        String rendered = templateEngine.process(TEMPLATE, context(TEAM_NAME_SENTINEL, TOKEN_SENTINEL));
+
+        List<Object> compiled = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int teamName = rendered.indexOf(TEAM_NAME_SENTINEL, position);
+            int token = rendered.indexOf(TOKEN_SENTINEL, position);
+            if (teamName < 0 && token < 0) {
+                break;
+            }
+
+            boolean isTeamName = teamName >= 0 && (token < 0 || teamName < token);
+            int index = isTeamName ? teamName : token;
+            compiled.add(rendered.substring(position, index));
+            compiled.add(isTeamName ? Slot.TEAM_NAME : Slot.TOKEN);
+            position = index + (isTeamName ? TEAM_NAME_SENTINEL : TOKEN_SENTINEL).length();
+        }
+        compiled.add(rendered.substring(position));
+
+        String sampleTeamName = "<팀 & \"이음\">";
+        String sampleToken = "a b-c";
+        String expected = templateEngine.process(TEMPLATE, context(sampleTeamName, sampleToken));
+        String actual = join(compiled, sampleTeamName, sampleToken);
+        if (!expected.equals(actual)) {
+            log.warn("invite template cannot be precompiled, falling back to Thymeleaf rendering");
+            return null;
+        }
+        return List.copyOf(compiled);
+    }
+
+    private static String join(List<Object> compiled, String teamName, String token) {
+        StringBuilder html = new StringBuilder();
+        for (Object part : compiled) {
+            if (part == Slot.TEAM_NAME) {
+                html.append(escapeTeamName(teamName));
+            } else if (part == Slot.TOKEN) {
+                html.append(escapeToken(token));
+            } else {
+                html.append((String) part);
+            }
+        }
+        return html.toString();
+    }
+
+    /**
+     * Thymeleaf와 같은 escape를 사용합니다. team 이름은 th:text로, 토큰은 링크의 query parameter로 들어갑니다.
+     */
+    private static String escapeTeamName(String teamName) {
+        return HtmlEscape.escapeHtml4Xml(teamName);
+    }
+
+    private static String escapeToken(String token) {
+        return HtmlEscape.escapeHtml4Xml(UriEscape.escapeUriQueryParam(token));
+    }
+
+    private String process(String teamName, String token) {
+        return templateEngine.process(TEMPLATE, context(teamName, token));
+    }
+
+    private static Context context(String teamName, String token) {
+        Context context = new Context();
+        context.setVariable(CONTEXT_TEAM_NAME, teamName);
+        context.setVariable(CONTEXT_INVITE_TOKEN, token);
+        return context;
+    }
+}
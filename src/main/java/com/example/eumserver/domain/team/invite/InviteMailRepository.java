@@ -0,0 +1,33 @@
+package com.example.eumserver.domain.team.invite;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface InviteMailRepository extends JpaRepository<InviteMail, Long> {
+
+    /**
+     * 발송할 메일을 {@code FOR UPDATE SKIP LOCKED}로 가져옵니다.
+     * 다른 worker가 잠근 행은 건너뛰므로 여러 worker와 서버가 같은 메일을 중복으로 가져가지 않습니다.
+     * lock timeout -2는 Hibernate의 SKIP LOCKED 입니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from InviteMail m where m.status = :status and m.nextAttemptAt <= :now order by m.nextAttemptAt")
+    List<InviteMail> findClaimable(
+            @Param("status") InviteMailStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    @Query("select new com.example.eumserver.domain.team.invite.InviteMailJob(m.id, m.recipient, t.name, i.token) " +
+            "from InviteMail m join m.invite i join i.team t where m.id in :ids")
+    List<InviteMailJob> findJobsByIdIn(@Param("ids") List<Long> ids);
+}
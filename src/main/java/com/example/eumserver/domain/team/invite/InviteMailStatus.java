@@ -0,0 +1,7 @@
+package com.example.eumserver.domain.team.invite;
+
+public enum InviteMailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -8,15 +8,10 @@ import com.example.eumserver.domain.user.User;
 import com.example.eumserver.domain.user.UserRepository;
 import com.example.eumserver.global.error.CustomException;
 import com.example.eumserver.global.error.exception.EntityNotFoundException;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.util.Calendar;
 import java.util.Date;
@@ -28,18 +23,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class InviteService {
 
-    private static final String CONTEXT_TEAM_NAME = "team_name";
-    private static final String CONTEXT_INVITE_TOKEN = "token";
-
-    private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
     private final UserRepository userRepository;
     private final InviteRepository inviteRepository;
+    private final InviteMailRepository inviteMailRepository;
     private final TeamRepository teamRepository;
     private final ParticipantRepository participantRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 임시 토큰을 생성하여 주어진 이메일 모두에게 해당 토큰을 담은 이메일을 전송합니다.
+     * 임시 토큰을 생성하여 주어진 이메일 모두에게 해당 토큰을 담은 이메일을 보내도록 outbox에 저장합니다.
+     * 메일은 commit 이후 {@link InviteMailDispatcher}가 별도 thread에서 발송하므로, 요청은 SMTP 응답을 기다리지 않습니다.
      * @param teamId 초대하려는 team ID
      * @param emails 초대받는 사용자들의 email
      * @return {@link Invite} 생성된 Invite
@@ -58,34 +51,12 @@ public class InviteService {
         Calendar calendar = Calendar.getInstance();
         calendar.add(Calendar.HOUR, 1);
 
-        Invite invite = new Invite(team, token, calendar.getTime());
-
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
-            messageHelper.setTo(emails.toArray(String[]::new));
-            messageHelper.setSubject(getSubjectForTeam(team.getName()));
-
-            Context context = new Context();
-            context.setVariable(CONTEXT_TEAM_NAME, team.getName());
-            context.setVariable(CONTEXT_INVITE_TOKEN, token);
-
-            String html = templateEngine.process("invite", context);
-            messageHelper.setText(html, true);
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            throw new CustomException(500, "이메일 전송 실패");
-        }
-        return inviteRepository.save(invite);
-    }
-
-    /**
-     * team 이름을 포함한 이메일 제목 만드는 함수
-     * @param teamName 포함하고 싶은 team 이름
-     * @return team 이름이 포함된 이메일 제목
-     */
-    private String getSubjectForTeam(String teamName) {
-        return "[이음] " + teamName + " 팀에서 초대";
+        Invite invite = inviteRepository.save(new Invite(team, token, calendar.getTime()));
+        inviteMailRepository.saveAll(emails.stream()
+                .map(email -> new InviteMail(invite, email))
+                .toList());
+        eventPublisher.publishEvent(new InviteMailQueuedEvent(invite.getId(), emails.size()));
+        return invite;
     }
 
     /**
@@ -6,6 +6,7 @@ import com.example.eumserver.domain.team.participant.Participant;
 import com.example.eumserver.global.entity.TimeStamp;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -72,6 +73,14 @@ public class User implements UserDetails {
     @Embedded
     private TimeStamp timeStamp;
 
+    /**
+     * 조건부 조회의 ETag로 사용합니다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public void updateDefaultInfo(OAuth2Attributes OAuth2Attributes) {
         this.email = OAuth2Attributes.getEmail();
         this.name = new Name(OAuth2Attributes.getName(), "");
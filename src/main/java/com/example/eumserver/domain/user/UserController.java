@@ -3,9 +3,11 @@ package com.example.eumserver.domain.user;
 import com.example.eumserver.domain.jwt.PrincipalDetails;
 import com.example.eumserver.domain.user.dto.UserResponse;
 import com.example.eumserver.domain.user.dto.UserUpdateRequest;
+import com.example.eumserver.global.utils.ConditionalRequestUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -33,9 +35,10 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<UserResponse> getUserInfo(@PathVariable long userId) {
-        User user = userService.findById(userId);
-        UserResponse userResponse = UserMapper.INSTANCE.userToUserResponse(user);
-        return ResponseEntity.ok(userResponse);
+    public ResponseEntity<UserResponse> getUserInfo(@PathVariable long userId, @RequestHeader HttpHeaders headers) {
+        return ConditionalRequestUtils.get(
+                headers,
+                userService.getUserVersion(userId),
+                () -> UserMapper.INSTANCE.userToUserResponse(userService.findById(userId)));
     }
 }
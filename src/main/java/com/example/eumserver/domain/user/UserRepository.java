@@ -1,10 +1,16 @@
 package com.example.eumserver.domain.user;
 
+import com.example.eumserver.global.entity.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("select new com.example.eumserver.global.entity.ResourceVersion(u.version, u.timeStamp.updateAt) " +
+            "from User u where u.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
 }
\ No newline at end of file
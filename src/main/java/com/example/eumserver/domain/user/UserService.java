@@ -1,6 +1,7 @@
 package com.example.eumserver.domain.user;
 
 import com.example.eumserver.domain.user.dto.UserUpdateRequest;
+import com.example.eumserver.global.entity.ResourceVersion;
 import com.example.eumserver.global.error.CustomException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,14 @@ public class UserService {
         return user;
     }
 
+    /**
+     * 조건부 조회용 version, 사용자가 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getUserVersion(long userId) {
+        return userRepository.findVersionById(userId).orElse(null);
+    }
+
     public User findById(long userId) {
         return userRepository.findById(userId).orElseThrow(() -> new CustomException(400, "User not found."));
     }
@@ -0,0 +1,155 @@
+package com.example.eumserver.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 로컬(Caffeine)과 Redis 두 단계로 이루어진 read-through 캐시
+ * 로컬에 없으면 Redis를, Redis에도 없으면 loader로 읽어 두 곳에 모두 저장합니다.
+ * {@link #evict}는 Redis 키를 지우고 pub/sub으로 다른 서버의 로컬 캐시까지 비웁니다.
+ * Redis를 사용할 수 없으면 로컬 캐시와 loader만으로 동작합니다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    private static final String KEY_PREFIX = "cache:";
+    private static final String METRIC_NAME = "cache.two_tier.requests";
+
+    private final String name;
+    private final Class<V> type;
+    private final Cache<String, V> local;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration remoteTtl;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter localHitCounter;
+    private final Counter remoteHitCounter;
+    private final Counter missCounter;
+
+    TwoTierCache(
+            String name,
+            Class<V> type,
+            Cache<String, V> local,
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            Duration remoteTtl,
+            BiConsumer<String, String> invalidationPublisher,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.type = type;
+        this.local = local;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.remoteTtl = remoteTtl;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localHitCounter = requestCounter(meterRegistry, "local_hit");
+        this.remoteHitCounter = requestCounter(meterRegistry, "remote_hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param loader 두 캐시에 모두 없을 때 값을 읽습니다. null을 반환하면 캐시하지 않습니다.
+     */
+    public V get(Object key, Supplier<V> loader) {
+        String cacheKey = String.valueOf(key);
+        V value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            localHitCounter.increment();
+            return value;
+        }
+
+        value = readRemote(cacheKey);
+        if (value != null) {
+            remoteHitCounter.increment();
+            local.put(cacheKey, value);
+            return value;
+        }
+
+        missCounter.increment();
+        value = loader.get();
+        if (value != null) {
+            writeRemote(cacheKey, value);
+            local.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    /**
+     * 지금 한 번, transaction이 끝난 뒤 한 번 더 지웁니다.
+     * commit 전에 다른 요청이 이전 값을 다시 캐시했거나, 같은 transaction 안에서 commit되지 않은 값을 캐시한 경우를 정리합니다.
+     */
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        evictEverywhere(cacheKey);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictEverywhere(cacheKey);
+                }
+            });
+        }
+    }
+
+    /**
+     * 다른 서버의 invalidation 메시지를 받았을 때 로컬 캐시만 비웁니다.
+     */
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    private void evictEverywhere(String key) {
+        local.invalidate(key);
+        try {
+            redisTemplate.delete(remoteKey(key));
+            invalidationPublisher.accept(name, key);
+        } catch (RuntimeException e) {
+            log.warn("failed to invalidate {} in cache {}: {}", key, name, e.getMessage());
+        }
+    }
+
+    private V readRemote(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(remoteKey(key));
+            return json == null ? null : objectMapper.readValue(json, type);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("failed to read {} from cache {}: {}", key, name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, V value) {
+        try {
+            redisTemplate.opsForValue().set(remoteKey(key), objectMapper.writeValueAsString(value), remoteTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("failed to write {} to cache {}: {}", key, name, e.getMessage());
+        }
+    }
+
+    private String remoteKey(String key) {
+        return KEY_PREFIX + name + ":" + key;
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
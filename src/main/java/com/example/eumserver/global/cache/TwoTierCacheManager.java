@@ -0,0 +1,103 @@
+package com.example.eumserver.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link TwoTierCache}를 만들고, 서버 간 invalidation 메시지를 각 캐시에 전달합니다.
+ * 메시지는 {@code {캐시 이름}|{키}} 형식으로 {@link #CHANNEL}에 발행됩니다.
+ * 로컬 캐시의 TTL은 메시지가 유실되었을 때 다른 서버에 이전 값이 남을 수 있는 최대 시간입니다.
+ */
+@Component
+public class TwoTierCacheManager implements MessageListener {
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    private static final String DELIMITER = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final Duration remoteTtl;
+
+    private final Map<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${cache.local.max-size:10000}") long localMaxSize,
+            @Value("${cache.local.ttl-ms:30000}") long localTtlInMs,
+            @Value("${cache.remote.ttl-ms:600000}") long remoteTtlInMs) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = Duration.ofMillis(localTtlInMs);
+        this.remoteTtl = Duration.ofMillis(remoteTtlInMs);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 로컬 캐시의 적중률은 {@code cache.gets}, {@code cache.evictions} 등 Caffeine 지표로,
+     * 두 단계 전체의 적중 여부는 {@code cache.two_tier.requests}로 노출됩니다.
+     */
+    public <V> TwoTierCache<V> create(String name, Class<V> type) {
+        Cache<String, V> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+
+        TwoTierCache<V> cache = new TwoTierCache<>(
+                name, type, local, redisTemplate, objectMapper, remoteTtl, this::publish, meterRegistry);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("cache " + name + " already exists");
+        }
+        return cache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(DELIMITER);
+        if (delimiter < 0) {
+            return;
+        }
+
+        TwoTierCache<?> cache = caches.get(body.substring(0, delimiter));
+        if (cache != null) {
+            cache.evictLocal(body.substring(delimiter + 1));
+        }
+    }
+
+    private void publish(String name, String key) {
+        redisTemplate.convertAndSend(CHANNEL, name + DELIMITER + key);
+    }
+}
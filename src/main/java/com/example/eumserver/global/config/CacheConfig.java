@@ -0,0 +1,29 @@
+package com.example.eumserver.global.config;
+
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.dto.TeamResponse;
+import com.example.eumserver.global.cache.TwoTierCache;
+import com.example.eumserver.global.cache.TwoTierCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 단건 조회 캐시
+ * 값을 바꾸는 서비스 메서드에서 {@link TwoTierCache#evict}로 무효화합니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String ANNOUNCEMENT_CACHE = "announcement";
+    public static final String TEAM_CACHE = "team";
+
+    @Bean
+    public TwoTierCache<AnnouncementResponse> announcementCache(TwoTierCacheManager cacheManager) {
+        return cacheManager.create(ANNOUNCEMENT_CACHE, AnnouncementResponse.class);
+    }
+
+    @Bean
+    public TwoTierCache<TeamResponse> teamCache(TwoTierCacheManager cacheManager) {
+        return cacheManager.create(TEAM_CACHE, TeamResponse.class);
+    }
+}
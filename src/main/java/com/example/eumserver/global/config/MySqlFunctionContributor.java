@@ -0,0 +1,26 @@
+package com.example.eumserver.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL/QueryDSL에서 사용할 MySQL 전용 함수
+ * {@code META-INF/services}로 Hibernate에 등록됩니다.
+ */
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    /**
+     * {@code function('match_against', column1, column2, query)}
+     * 두 컬럼에 대한 FULLTEXT index의 boolean mode 관련도, 일치하지 않으면 0 입니다.
+     */
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -1,36 +1,189 @@
 package com.example.eumserver.global.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.event.connection.ConnectionEvent;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis client 설정
+ * 모든 connection factory는 하나의 {@link ClientResources}(event loop, command latency 측정)를 공유합니다.
+ * 일반 명령은 factory마다 하나의 공유 connection으로 pipelining 되고,
+ * pool을 켜면 MULTI/EXEC나 blocking 명령처럼 connection을 독점하는 작업만 pool의 전용 connection을 사용합니다.
+ * replica를 설정하면 로그아웃 목록과 세션 목록 조회는 {@code replicaRedisTemplate}으로 replica에서 읽습니다.
+ */
 @Configuration
 public class RedisConfig {
 
+    public static final String REPLICA_REDIS_TEMPLATE = "replicaRedisTemplate";
+
     @Value("${spring.data.redis.port}")
     private int port;
 
     @Value("${spring.data.redis.host}")
     private String host;
 
+    @Value("${redis.command-timeout-ms:2000}")
+    private long commandTimeoutInMs;
+
+    @Value("${redis.connect-timeout-ms:1000}")
+    private long connectTimeoutInMs;
+
+    @Value("${redis.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${redis.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${redis.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${redis.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${redis.pool.max-wait-ms:1000}")
+    private long poolMaxWaitInMs;
+
+    /**
+     * 명령 응답 시간은 {@code lettuce.command.firstresponse}, {@code lettuce.command.completion}으로,
+     * 연결 상태 변화는 {@code redis.connection.events}로 기록합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(MeterRegistry meterRegistry) {
+        ClientResources clientResources = DefaultClientResources.builder()
+                .commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry, MicrometerOptions.create()))
+                .build();
+
+        clientResources.eventBus().get()
+                .filter(ConnectionEvent.class::isInstance)
+                .subscribe(event -> meterRegistry.counter(
+                        "redis.connection.events", "type", event.getClass().getSimpleName()).increment());
+        return clientResources;
+    }
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+    @Primary
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        return new LettuceConnectionFactory(configuration, clientConfiguration(clientResources, null));
     }
 
+    /**
+     * {@code redis.replica.nodes}(host:port, 쉼표로 구분)가 있을 때만 만듭니다.
+     * replica를 우선 읽고, 모든 replica를 사용할 수 없으면 master에서 읽습니다.
+     * replication 지연만큼 방금 쓴 값이 보이지 않을 수 있으므로 읽기 전용 조회에만 사용합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "redis.replica.nodes")
+    public LettuceConnectionFactory replicaRedisConnectionFactory(
+            ClientResources clientResources,
+            @Value("${redis.replica.nodes}") List<String> replicaNodes) {
+        RedisStaticMasterReplicaConfiguration configuration = new RedisStaticMasterReplicaConfiguration(host, port);
+        for (String node : replicaNodes) {
+            String[] hostAndPort = node.trim().split(":");
+            configuration.addNode(hostAndPort[0], hostAndPort.length > 1 ? Integer.parseInt(hostAndPort[1]) : port);
+        }
+        return new LettuceConnectionFactory(configuration, clientConfiguration(clientResources, ReadFrom.REPLICA_PREFERRED));
+    }
 
     @Bean
     @Primary
-    public RedisTemplate<String, String> redisTemplate() {
+    public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return stringRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * replica가 설정되지 않았으면 master connection을 그대로 사용합니다.
+     */
+    @Bean(name = REPLICA_REDIS_TEMPLATE)
+    public RedisTemplate<String, String> replicaRedisTemplate(
+            @Qualifier("replicaRedisConnectionFactory") ObjectProvider<RedisConnectionFactory> replicaConnectionFactory,
+            RedisConnectionFactory redisConnectionFactory) {
+        return stringRedisTemplate(replicaConnectionFactory.getIfAvailable(() -> redisConnectionFactory));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    /**
+     * pool을 켰을 때 pool의 active/idle connection 수와 대기 시간을 노출합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "redis.pool.enabled", havingValue = "true")
+    public CommonsObjectPool2Metrics redisPoolMetrics() {
+        return new CommonsObjectPool2Metrics();
+    }
+
+    private LettuceClientConfiguration clientConfiguration(ClientResources clientResources, ReadFrom readFrom) {
+        ClientOptions clientOptions = ClientOptions.builder()
+                .autoReconnect(true)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(Duration.ofMillis(connectTimeoutInMs))
+                        .keepAlive(true)
+                        .build())
+                .timeoutOptions(TimeoutOptions.enabled(Duration.ofMillis(commandTimeoutInMs)))
+                .build();
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder;
+        if (poolEnabled) {
+            GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(poolMaxActive);
+            poolConfig.setMaxIdle(poolMaxIdle);
+            poolConfig.setMinIdle(poolMinIdle);
+            poolConfig.setMaxWait(Duration.ofMillis(poolMaxWaitInMs));
+            builder = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+        } else {
+            builder = LettuceClientConfiguration.builder();
+        }
+
+        builder.clientResources(clientResources)
+                .clientOptions(clientOptions)
+                .commandTimeout(Duration.ofMillis(commandTimeoutInMs));
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+        return builder.build();
+    }
+
+    private static RedisTemplate<String, String> stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(new StringRedisSerializer());
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.setConnectionFactory(connectionFactory);
         return redisTemplate;
     }
 }
@@ -49,6 +49,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/resumes/user/{userId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/resumes/{resumeId}").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/reissue").permitAll()
+                        .requestMatchers("/api/auth/sessions/**").authenticated()
                         .requestMatchers("/api/resume/**").authenticated()
                         .anyRequest().permitAll())
                 .oauth2Login(oauth2 ->
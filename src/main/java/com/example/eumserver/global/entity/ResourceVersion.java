@@ -0,0 +1,28 @@
+package com.example.eumserver.global.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 조회(If-None-Match / If-Modified-Since)에 사용하는 validator
+ * 엔티티를 읽지 않고 version과 수정 시각만 조회하여 만듭니다.
+ * @param tag ETag 값, 보통 엔티티의 version
+ * @param lastModified 수정 시각을 신뢰할 수 없으면 null
+ */
+public record ResourceVersion(String tag, LocalDateTime lastModified) {
+
+    public ResourceVersion(String tag) {
+        this(tag, null);
+    }
+
+    public ResourceVersion(Long version) {
+        this(String.valueOf(version), null);
+    }
+
+    public ResourceVersion(Long version, LocalDateTime lastModified) {
+        this(String.valueOf(version), lastModified);
+    }
+
+    public String eTag() {
+        return "\"" + tag + "\"";
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.eumserver.global.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 서버 중 한 곳에서만 작업을 실행하기 위한 Redis 잠금
+ * {@code SET NX PX}로 얻고, 자신이 얻은 잠금일 때만 지웁니다.
+ * 작업이 TTL보다 오래 걸리면 다른 서버가 잠금을 얻을 수 있으므로 TTL 안에 끝나도록 작업을 나눕니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    /**
+     * KEYS[1] = lock, ARGV[1] = token
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * @return 잠금을 얻으면 해제에 사용할 token, 다른 서버가 갖고 있으면 null
+     */
+    public String tryLock(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * @return 잠금이 만료되어 다른 서버가 가져갔으면 false
+     */
+    public boolean unlock(String name, String token) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), token);
+        return released != null && released == 1L;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.eumserver.global.utils;
+
+import com.example.eumserver.global.entity.ResourceVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET 처리
+ * 요청의 validator가 현재 version과 같으면 body를 읽거나 직렬화하지 않고 304를 반환합니다.
+ */
+public class ConditionalRequestUtils {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    /**
+     * @param current 저장된 version, 리소스가 없으면 null (body를 읽으며 예외가 발생합니다.)
+     */
+    public static <T> ResponseEntity<T> get(HttpHeaders requestHeaders, ResourceVersion current, Supplier<T> body) {
+        return get(requestHeaders, current, body, null);
+    }
+
+    /**
+     * 캐시에서 읽은 body는 current보다 오래되었을 수 있으므로, 응답의 ETag는 body 자신의 version으로 만듭니다.
+     * @param versionOfBody body에 담긴 version
+     */
+    public static <T> ResponseEntity<T> get(
+            HttpHeaders requestHeaders,
+            ResourceVersion current,
+            Supplier<T> body,
+            Function<T, Long> versionOfBody) {
+        if (current != null && isNotModified(requestHeaders, current)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .headers(validators(current))
+                    .build();
+        }
+
+        T value = body.get();
+        ResourceVersion served = current;
+        if (versionOfBody != null) {
+            ResourceVersion ofBody = new ResourceVersion(versionOfBody.apply(value));
+            if (current == null || !Objects.equals(current.tag(), ofBody.tag())) {
+                served = ofBody;
+            }
+        }
+        return ResponseEntity.ok()
+                .headers(validators(served))
+                .body(value);
+    }
+
+    /**
+     * If-None-Match가 있으면 If-Modified-Since는 보지 않습니다. (RFC 9110 13.2.2)
+     */
+    private static boolean isNotModified(HttpHeaders requestHeaders, ResourceVersion current) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String eTag = current.eTag();
+            return ifNoneMatch.stream()
+                    .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                    .anyMatch(tag -> tag.equals(ANY) || tag.equals(eTag));
+        }
+
+        if (current.lastModified() == null) {
+            return false;
+        }
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = requestHeaders.getIfModifiedSince();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return ifModifiedSince >= 0 && lastModifiedInMs(current) <= ifModifiedSince;
+    }
+
+    private static HttpHeaders validators(ResourceVersion version) {
+        HttpHeaders headers = new HttpHeaders();
+        if (version == null) {
+            return headers;
+        }
+        headers.setETag(version.eTag());
+        if (version.lastModified() != null) {
+            headers.setLastModified(lastModifiedInMs(version));
+        }
+        return headers;
+    }
+
+    /**
+     * HTTP 날짜는 초 단위이므로 밀리초를 버립니다.
+     */
+    private static long lastModifiedInMs(ResourceVersion version) {
+        return version.lastModified()
+                .truncatedTo(ChronoUnit.SECONDS)
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+    }
+}
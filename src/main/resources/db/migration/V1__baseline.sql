@@ -0,0 +1,174 @@
+-- Flyway 도입 전 ddl-auto=update로 만들어진 운영 DB의 schema를 그대로 옮긴 기준 migration 입니다.
+-- 이미 운영 중인 DB에서는 spring.flyway.baseline-on-migrate로 건너뛰므로, 이후 추가한 컬럼, 테이블, index는 V2부터 둡니다.
+
+CREATE TABLE users
+(
+    user_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    email        VARCHAR(255) NOT NULL,
+    first_name   VARCHAR(255) NOT NULL,
+    last_name    VARCHAR(255),
+    avatar       VARCHAR(255),
+    phone_number VARCHAR(255),
+    role         VARCHAR(255),
+    provider     VARCHAR(255) NOT NULL,
+    provider_id  VARCHAR(255) NOT NULL,
+    mbti         VARCHAR(4),
+    birthday     DATE,
+    create_date  DATETIME(6)  NOT NULL,
+    update_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE accounts
+(
+    id       BIGINT NOT NULL,
+    provider VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE accounts_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO accounts_seq VALUES (1);
+
+CREATE TABLE teams
+(
+    team_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    name           VARCHAR(255) NOT NULL,
+    email          VARCHAR(255),
+    logo           VARCHAR(255),
+    phone_number   VARCHAR(255),
+    formation_date DATETIME(6)  NOT NULL,
+    introduction   TEXT,
+    PRIMARY KEY (team_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE participants
+(
+    participant_team_id BIGINT NOT NULL,
+    participant_user_id BIGINT NOT NULL,
+    role                TINYINT,
+    created_date        DATETIME(6),
+    PRIMARY KEY (participant_team_id, participant_user_id),
+    CONSTRAINT fk_participants_team FOREIGN KEY (participant_team_id) REFERENCES teams (team_id),
+    CONSTRAINT fk_participants_user FOREIGN KEY (participant_user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE team_announcements
+(
+    team_announcement_id BIGINT       NOT NULL AUTO_INCREMENT,
+    team_id              BIGINT,
+    title                VARCHAR(255) NOT NULL,
+    vacancies            INT          NOT NULL,
+    description          LONGTEXT     NOT NULL,
+    date_expired         DATETIME(6)  NOT NULL,
+    date_published       DATETIME(6),
+    create_date          DATETIME(6)  NOT NULL,
+    update_at            DATETIME(6)  NOT NULL,
+    PRIMARY KEY (team_announcement_id),
+    CONSTRAINT fk_team_announcements_team FOREIGN KEY (team_id) REFERENCES teams (team_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE announcement_occupation_classifications
+(
+    announcement_team_announcement_id BIGINT NOT NULL,
+    occupation_classifications        VARCHAR(255),
+    CONSTRAINT fk_announcement_occupation_classifications_announcement
+        FOREIGN KEY (announcement_team_announcement_id) REFERENCES team_announcements (team_announcement_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE invites
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    team_id      BIGINT,
+    token        VARCHAR(255) NOT NULL,
+    date_expired DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_invites_token UNIQUE (token),
+    CONSTRAINT fk_invites_team FOREIGN KEY (team_id) REFERENCES teams (team_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE resumes
+(
+    resume_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT,
+    title           VARCHAR(255),
+    job_category    VARCHAR(255) NOT NULL,
+    job_subcategory VARCHAR(255) NOT NULL,
+    gpa             DOUBLE,
+    total_score     DOUBLE,
+    introduction    TEXT         NOT NULL,
+    is_public       BIT          NOT NULL,
+    create_date     DATETIME(6)  NOT NULL,
+    update_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (resume_id),
+    CONSTRAINT fk_resumes_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE resume_activities
+(
+    resume_activity_id BIGINT       NOT NULL AUTO_INCREMENT,
+    resume_id          BIGINT,
+    activity_title     VARCHAR(255) NOT NULL,
+    start_date         DATE         NOT NULL,
+    end_date           DATE,
+    activity_url       VARCHAR(255),
+    introduction       TEXT,
+    PRIMARY KEY (resume_activity_id),
+    CONSTRAINT fk_resume_activities_resume FOREIGN KEY (resume_id) REFERENCES resumes (resume_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE resume_careers
+(
+    resume_career_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    resume_id           BIGINT,
+    company_name        VARCHAR(15) NOT NULL,
+    company_role        VARCHAR(20) NOT NULL,
+    start_date          DATE        NOT NULL,
+    end_date            DATE,
+    technologies_used   VARCHAR(255),
+    company_website_url VARCHAR(255),
+    achievement         TEXT,
+    PRIMARY KEY (resume_career_id),
+    CONSTRAINT fk_resume_careers_resume FOREIGN KEY (resume_id) REFERENCES resumes (resume_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE resume_certificates
+(
+    resume_certificate_id BIGINT NOT NULL AUTO_INCREMENT,
+    resume_id             BIGINT,
+    certiciate_title      VARCHAR(255),
+    start_date            DATE   NOT NULL,
+    end_date              DATE,
+    certificate_url       VARCHAR(255),
+    introduction          TEXT,
+    PRIMARY KEY (resume_certificate_id),
+    CONSTRAINT fk_resume_certificates_resume FOREIGN KEY (resume_id) REFERENCES resumes (resume_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE resume_projects
+(
+    resume_project_id BIGINT      NOT NULL AUTO_INCREMENT,
+    resume_id         BIGINT,
+    project_title     VARCHAR(30) NOT NULL,
+    project_role      VARCHAR(20) NOT NULL,
+    start_date        DATE        NOT NULL,
+    end_date          DATE,
+    project_url       VARCHAR(255),
+    introduction      TEXT,
+    PRIMARY KEY (resume_project_id),
+    CONSTRAINT fk_resume_projects_resume FOREIGN KEY (resume_id) REFERENCES resumes (resume_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE resume_websites
+(
+    resume_activity_id BIGINT       NOT NULL AUTO_INCREMENT,
+    resume_id          BIGINT,
+    homepage_type      VARCHAR(255) NOT NULL,
+    homepage_url       VARCHAR(255) NOT NULL,
+    PRIMARY KEY (resume_activity_id),
+    CONSTRAINT fk_resume_websites_resume FOREIGN KEY (resume_id) REFERENCES resumes (resume_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+-- 초대 메일 outbox, InviteMailDispatcher가 status와 next_attempt_at으로 발송할 메일을 고릅니다.
+CREATE TABLE invite_mails
+(
+    invite_mail_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    invite_id       BIGINT       NOT NULL,
+    recipient       VARCHAR(255) NOT NULL,
+    status          VARCHAR(16)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    last_error      VARCHAR(500),
+    PRIMARY KEY (invite_mail_id),
+    INDEX idx_invite_mails_status_next_attempt (status, next_attempt_at),
+    CONSTRAINT fk_invite_mails_invite FOREIGN KEY (invite_id) REFERENCES invites (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,46 @@
+-- 공고 직종 분류의 bit 합, 목록 조회의 분류 필터가 collection table 대신 사용합니다.
+ALTER TABLE team_announcements
+    ADD COLUMN occupation_mask BIGINT NOT NULL DEFAULT 0 AFTER date_published;
+
+-- 기존 공고의 mask를 collection table로부터 채웁니다.
+-- bit는 OccupationClassification의 순서(ordinal)이며, 이후 추가되는 분류는 새 공고에만 쓰이므로 여기에 없어도 됩니다.
+UPDATE team_announcements a
+    JOIN (SELECT c.announcement_team_announcement_id AS id,
+                 BIT_OR(CASE c.occupation_classifications
+                           WHEN 'DESIGN_UI_UX' THEN 1
+                           WHEN 'DESIGN_ILLUSTRATION_CHARACTER' THEN 2
+                           WHEN 'DESIGN_MOVIE_MOTION_GRAPHIC' THEN 4
+                           WHEN 'DESIGN_PRODUCT_PACKAGE' THEN 8
+                           WHEN 'DESIGN_PASSION' THEN 16
+                           WHEN 'DESIGN_CRAFTS' THEN 32
+                           WHEN 'DESIGN_GRAPHIC' THEN 64
+                           WHEN 'DEVELOPMENT_FRONTEND' THEN 128
+                           WHEN 'DEVELOPMENT_BACKEND' THEN 256
+                           WHEN 'DEVELOPMENT_AI' THEN 512
+                           WHEN 'DEVELOPMENT_DEVOPS' THEN 1024
+                           WHEN 'DEVELOPMENT_SECURITY' THEN 2048
+                           WHEN 'DEVELOPMENT_GAME' THEN 4096
+                           WHEN 'DEVELOPMENT_EMBEDDED' THEN 8192
+                           WHEN 'DEVELOPMENT_DBA' THEN 16384
+                           WHEN 'PLAN' THEN 32768
+                           WHEN 'MEDIA_EDITING_MOVIE' THEN 65536
+                           WHEN 'MEDIA_FILMING_MOVIE' THEN 131072
+                           WHEN 'MEDIA_PD' THEN 262144
+                           WHEN 'MEDIA_PHOTOGRAPHER' THEN 524288
+                           WHEN 'MEDIA_SOUND_ENGINEER' THEN 1048576
+                           WHEN 'MARKETING_MANAGEMENT' THEN 2097152
+                           WHEN 'MARKETING_PROMOTION' THEN 4194304
+                           WHEN 'MARKETING_CONSULTING' THEN 8388608
+                           WHEN 'TRANSLATION_ENGLISH' THEN 16777216
+                           WHEN 'TRANSLATION_JAPANESE' THEN 33554432
+                           WHEN 'TRANSLATION_CHINESE' THEN 67108864
+                           WHEN 'TRANSLATION_SPANISH' THEN 134217728
+                           WHEN 'TRANSLATION_ALABIC' THEN 268435456
+                           WHEN 'TRANSLATION_HINDI' THEN 536870912
+                           WHEN 'TRANSLATION_FRANCH' THEN 1073741824
+                           WHEN 'TRANSLATION_ETC' THEN 2147483648
+                           WHEN 'ETC' THEN 4294967296
+                           ELSE 0 END) AS mask
+          FROM announcement_occupation_classifications c
+          GROUP BY c.announcement_team_announcement_id) m ON m.id = a.team_announcement_id
+SET a.occupation_mask = m.mask;
@@ -0,0 +1,4 @@
+-- 공고 제목과 본문의 검색용 FULLTEXT index, 한국어 단어를 나누기 위해 ngram parser를 사용합니다.
+-- 공고가 많은 테이블에서는 테이블을 다시 쓰므로 시간이 걸립니다.
+ALTER TABLE team_announcements
+    ADD FULLTEXT INDEX ft_team_announcements_title_description (title, description) WITH PARSER ngram;
@@ -0,0 +1,12 @@
+-- 조건부 조회의 ETag로 사용하는 version 컬럼, 기존 행은 0부터 시작합니다.
+ALTER TABLE users
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE teams
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE team_announcements
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE resumes
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
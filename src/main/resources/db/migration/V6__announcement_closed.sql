@@ -0,0 +1,5 @@
+-- 공고 마감 여부, AnnouncementExpirySweeper가 (closed, date_expired) 순으로 마감일이 지난 공고를 찾아 닫습니다.
+-- 기존 공고는 열린 상태로 두고, 마감일이 지난 공고는 다음 sweep에서 닫습니다.
+ALTER TABLE team_announcements
+    ADD COLUMN closed BIT NOT NULL DEFAULT 0 AFTER date_published,
+    ADD INDEX idx_team_announcements_closed_expired (closed, date_expired, team_announcement_id);
@@ -0,0 +1,10 @@
+-- 자주 실행되는 조회마다 index를 맞춥니다. 각 조회의 실행 계획은 QueryPlanTest가 확인합니다.
+
+-- 팀 공고 목록: team_id, closed 등호 조건 뒤에 create_date 역순 정렬
+-- 분류(occupation_mask)와 게시 여부(date_published) 조건을 index 안에서 거르도록 뒤에 붙입니다.
+-- team_id로 시작하므로 foreign key가 만든 index 대신 이 index가 foreign key를 받칩니다.
+CREATE INDEX idx_team_announcements_team_created
+    ON team_announcements (team_id, closed, create_date, team_announcement_id, occupation_mask, date_published);
+
+-- 사용자 이력서 목록(전체/공개)과 목록 ETag 계산(count, sum(version), max(id))을 index만으로 처리합니다.
+CREATE INDEX idx_resumes_user_public ON resumes (user_id, is_public, version);
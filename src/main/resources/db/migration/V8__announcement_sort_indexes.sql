@@ -0,0 +1,7 @@
+-- 공고 목록의 마감 임박순, 모집 인원순 정렬을 index 순서로 읽습니다. 최신순 index와 같은 모양입니다.
+-- 같은 값은 team_announcement_id로 순서를 고정하고, 분류와 게시 여부 조건은 index 안에서 거릅니다.
+CREATE INDEX idx_team_announcements_team_expired
+    ON team_announcements (team_id, closed, date_expired, team_announcement_id, occupation_mask, date_published);
+
+CREATE INDEX idx_team_announcements_team_vacancies
+    ON team_announcements (team_id, closed, vacancies, team_announcement_id, occupation_mask, date_published);
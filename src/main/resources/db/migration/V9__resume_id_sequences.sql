@@ -0,0 +1,39 @@
+-- 이력서와 하위 항목의 ID를 IDENTITY 대신 sequence 테이블에서 받아 INSERT를 batch로 묶습니다.
+-- MySQL에는 sequence가 없으므로 Hibernate는 next_val 한 행짜리 테이블로 sequence를 흉내 냅니다. (accounts_seq와 같은 모양)
+-- pooled optimizer는 읽은 값에서 allocationSize(50) - 1을 뺀 값부터 사용하므로, 기존 최댓값보다 50 이상 크게 시작합니다.
+-- AUTO_INCREMENT는 foreign key가 걸린 컬럼이라 그대로 두지만, ID 없이 INSERT하면 Hibernate가 할당할 ID와 겹칠 수 있습니다.
+CREATE TABLE resumes_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO resumes_seq SELECT COALESCE(MAX(resume_id), 0) + 51 FROM resumes;
+
+CREATE TABLE resume_careers_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO resume_careers_seq SELECT COALESCE(MAX(resume_career_id), 0) + 51 FROM resume_careers;
+
+CREATE TABLE resume_activities_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO resume_activities_seq SELECT COALESCE(MAX(resume_activity_id), 0) + 51 FROM resume_activities;
+
+CREATE TABLE resume_certificates_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO resume_certificates_seq SELECT COALESCE(MAX(resume_certificate_id), 0) + 51 FROM resume_certificates;
+
+CREATE TABLE resume_projects_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO resume_projects_seq SELECT COALESCE(MAX(resume_project_id), 0) + 51 FROM resume_projects;
+
+CREATE TABLE resume_websites_seq
+(
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO resume_websites_seq SELECT COALESCE(MAX(resume_activity_id), 0) + 51 FROM resume_websites;
@@ -12,6 +12,12 @@ import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.utility.DockerImageName;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
 @SpringBootTest
 @Transactional
 @AutoConfigureMockMvc
@@ -35,6 +41,21 @@ public abstract class BaseIntegrationTest {
                 .withExposedPorts(6379)
                 .withReuse(true);
         redisContainer.start();
+        flushRedis();
+    }
+
+    /**
+     * Redis container는 재사용되지만 MySQL은 매번 새로 시작하므로, 이전 실행에서 같은 ID로 남은 캐시와 feed를 지웁니다.
+     */
+    private static void flushRedis() {
+        try {
+            redisContainer.execInContainer("redis-cli", "FLUSHALL");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
     }
 
     @DynamicPropertySource
@@ -46,4 +67,17 @@ public abstract class BaseIntegrationTest {
         registry.add("spring.data.redis.port", () -> String.valueOf(redisContainer.getMappedPort(6379)));
     }
 
+    /**
+     * commit 이후 비동기로 처리되는 작업을 기다립니다. 제한 시간 안에 조건이 맞지 않으면 실패합니다.
+     */
+    protected static void awaitUntil(BooleanSupplier condition, long timeoutInMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutInMs;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("condition not met within " + timeoutInMs + " ms");
+            }
+            Thread.sleep(50);
+        }
+    }
+
 }
@@ -0,0 +1,172 @@
+package com.example.eumserver;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 자주 실행되는 repository 조회를 EXPLAIN하여 full scan이 없는지 확인합니다.
+ * 조회는 repository가 만드는 SQL과 같은 모양으로 옮겨 두었으므로, 조회나 migration의 index를 바꾸면 함께 고칩니다.
+ * 통계가 있어야 실행 계획이 실제와 같으므로 데이터를 넣고 ANALYZE한 뒤 확인하며, ANALYZE는 commit을 일으키므로 테스트 transaction 없이 실행합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanTest extends BaseIntegrationTest {
+
+    private static final List<String> FULL_SCAN_TYPES = List.of("ALL", "index");
+
+    private static final String NUMBERS = """
+            WITH RECURSIVE digits (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM digits WHERE d < 9),
+                numbers (n) AS (SELECT a.d + b.d * 10 + c.d * 100 FROM digits a, digits b, digits c)
+            """;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final String run = UUID.randomUUID().toString().substring(0, 8);
+
+    private long userId;
+    private String email;
+    private long teamId;
+    private long announcementId;
+    private long resumeId;
+    private String token;
+
+    @BeforeAll
+    void seed() {
+        String users = "plan-" + run + "-%";
+        String teams = "plan-" + run;
+
+        jdbcTemplate.update("INSERT INTO users (email, first_name, provider, provider_id, role, create_date, update_at) "
+                + NUMBERS
+                + "SELECT CONCAT('plan-', ?, '-', n, '@e-um.site'), 'plan', 'google', CONCAT(?, n), 'ROLE_USER', NOW(6), NOW(6) "
+                + "FROM numbers WHERE n < 200", run, run);
+        jdbcTemplate.update("INSERT INTO teams (name, formation_date) "
+                + NUMBERS
+                + "SELECT ?, NOW(6) FROM numbers WHERE n < 50", teams);
+        jdbcTemplate.update("INSERT INTO participants (participant_team_id, participant_user_id, role, created_date) "
+                + "SELECT t.team_id, u.user_id, 2, NOW(6) FROM teams t JOIN users u ON u.user_id % 50 = t.team_id % 50 "
+                + "WHERE t.name = ? AND u.email LIKE ?", teams, users);
+        jdbcTemplate.update("INSERT INTO team_announcements "
+                + "(team_id, title, vacancies, description, date_expired, date_published, closed, occupation_mask, create_date, update_at) "
+                + NUMBERS
+                + "SELECT t.team_id, CONCAT('plan-', n), 1, 'description', "
+                + "NOW(6) + INTERVAL IF(n < 2, -1, 30) DAY, IF(n % 2 = 0, NOW(6), NULL), false, 1 << (n % 30), "
+                + "NOW(6) - INTERVAL n SECOND, NOW(6) "
+                + "FROM teams t, numbers WHERE t.name = ? AND n < 100", teams);
+        jdbcTemplate.update("INSERT INTO resumes (resume_id, user_id, title, job_category, job_subcategory, introduction, is_public, create_date, update_at) "
+                + NUMBERS
+                + "SELECT ? + ROW_NUMBER() OVER (ORDER BY u.user_id, n) - 1, u.user_id, 'plan', 'development', 'backend', 'introduction', "
+                + "n % 2 = 0, NOW(6), NOW(6) "
+                + "FROM users u, numbers WHERE u.email LIKE ? AND n < 5", reserveResumeIds(200 * 5), users);
+        jdbcTemplate.update("INSERT INTO invites (team_id, token, date_expired) "
+                + "SELECT team_id, CONCAT('plan-', ?, '-', team_id), NOW(6) + INTERVAL 1 DAY FROM teams WHERE name = ?", run, teams);
+        jdbcTemplate.update("INSERT INTO invite_mails (invite_id, recipient, status, attempts, next_attempt_at) "
+                + NUMBERS
+                + "SELECT i.id, CONCAT('r', n, '@e-um.site'), IF(n = 0, 'PENDING', 'SENT'), 1, NOW(6) "
+                + "FROM invites i, numbers WHERE i.token LIKE ? AND n < 40", users);
+        jdbcTemplate.execute("ANALYZE TABLE users, teams, participants, team_announcements, resumes, invites, invite_mails");
+
+        userId = jdbcTemplate.queryForObject("SELECT MIN(user_id) FROM users WHERE email LIKE ?", Long.class, users);
+        email = jdbcTemplate.queryForObject("SELECT email FROM users WHERE user_id = ?", String.class, userId);
+        teamId = jdbcTemplate.queryForObject("SELECT MIN(team_id) FROM teams WHERE name = ?", Long.class, teams);
+        announcementId = jdbcTemplate.queryForObject(
+                "SELECT MIN(team_announcement_id) FROM team_announcements WHERE team_id = ?", Long.class, teamId);
+        resumeId = jdbcTemplate.queryForObject("SELECT MIN(resume_id) FROM resumes WHERE user_id = ?", Long.class, userId);
+        token = jdbcTemplate.queryForObject("SELECT token FROM invites WHERE team_id = ?", String.class, teamId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        String users = "plan-" + run + "-%";
+        String teams = "plan-" + run;
+        jdbcTemplate.update("DELETE m FROM invite_mails m JOIN invites i ON i.id = m.invite_id WHERE i.token LIKE ?", users);
+        jdbcTemplate.update("DELETE FROM invites WHERE token LIKE ?", users);
+        jdbcTemplate.update("DELETE p FROM participants p JOIN teams t ON t.team_id = p.participant_team_id WHERE t.name = ?", teams);
+        jdbcTemplate.update("DELETE a FROM team_announcements a JOIN teams t ON t.team_id = a.team_id WHERE t.name = ?", teams);
+        jdbcTemplate.update("DELETE FROM teams WHERE name = ?", teams);
+        jdbcTemplate.update("DELETE r FROM resumes r JOIN users u ON u.user_id = r.user_id WHERE u.email LIKE ?", users);
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE ?", users);
+    }
+
+    /**
+     * 이력서 ID는 Hibernate가 resumes_seq에서 50개씩 받아 쓰므로, AUTO_INCREMENT로 넣으면 이후 할당될 ID와 겹칩니다.
+     * 이미 받아 간 범위 뒤의 ID를 예약하고, 다음 할당이 예약한 범위 뒤에서 시작하도록 sequence를 옮깁니다.
+     * @return 예약한 첫 ID
+     */
+    private long reserveResumeIds(int count) {
+        long next = jdbcTemplate.queryForObject("SELECT next_val FROM resumes_seq", Long.class);
+        jdbcTemplate.update("UPDATE resumes_seq SET next_val = ?", next + count + 50);
+        return next + 1;
+    }
+
+    @Test
+    @DisplayName("자주_실행되는_조회는_full_scan을_하지_않음")
+    void hot_queries_use_indexes() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> fullScans = new ArrayList<>();
+
+        // ResumeRepository
+        explain(fullScans, "SELECT * FROM resumes WHERE user_id = ?", userId);
+        explain(fullScans, "SELECT * FROM resumes WHERE user_id = ? AND is_public = true", userId);
+        explain(fullScans, "SELECT COUNT(*), COALESCE(SUM(version), 0), COALESCE(MAX(resume_id), 0) "
+                + "FROM resumes WHERE user_id = ? AND is_public = true", userId);
+        explain(fullScans, "SELECT version, is_public, user_id FROM resumes WHERE resume_id = ?", resumeId);
+
+        // AnnouncementCustomRepositoryImpl
+        String listing = "SELECT title, description, occupation_mask, version FROM team_announcements "
+                + "WHERE team_id = ? AND closed = false AND date_published IS NOT NULL AND (occupation_mask & ?) <> 0 ";
+        explain(fullScans, listing + "ORDER BY create_date DESC, team_announcement_id DESC LIMIT 12 OFFSET 24", teamId, 3L);
+        explain(fullScans, listing + "AND (date_expired > ? OR (date_expired = ? AND team_announcement_id > ?)) "
+                + "ORDER BY date_expired, team_announcement_id LIMIT 13", teamId, 3L, now, now, 0L);
+        explain(fullScans, listing + "ORDER BY vacancies DESC, team_announcement_id DESC LIMIT 12 OFFSET 24", teamId, 3L);
+        explain(fullScans, "SELECT COUNT(*) FROM team_announcements "
+                + "WHERE team_id = ? AND closed = false AND date_published IS NOT NULL AND (occupation_mask & ?) <> 0", teamId, 3L);
+        explain(fullScans, listing + "AND (create_date < ? OR (create_date = ? AND team_announcement_id < ?)) "
+                + "ORDER BY create_date DESC, team_announcement_id DESC LIMIT 13", teamId, 3L, now, now, Long.MAX_VALUE);
+        explain(fullScans, "SELECT team_announcement_id, team_id, title, occupation_mask, date_published FROM team_announcements "
+                + "WHERE date_published IS NOT NULL AND closed = false AND team_announcement_id > ? "
+                + "ORDER BY team_announcement_id LIMIT 1000", announcementId);
+
+        // AnnouncementRepository
+        explain(fullScans, "SELECT version, update_at FROM team_announcements WHERE team_announcement_id = ?", announcementId);
+        explain(fullScans, "SELECT team_announcement_id FROM team_announcements "
+                + "WHERE closed = false AND date_expired <= ? ORDER BY date_expired, team_announcement_id LIMIT 500", now);
+
+        // InviteRepository, InviteMailRepository
+        explain(fullScans, "SELECT * FROM invites WHERE token = ?", token);
+        explain(fullScans, "SELECT * FROM invite_mails WHERE status = 'PENDING' AND next_attempt_at <= ? "
+                + "ORDER BY next_attempt_at LIMIT 20", now);
+
+        // UserRepository, TeamRepository, ParticipantRepository
+        explain(fullScans, "SELECT * FROM users WHERE email = ?", email);
+        explain(fullScans, "SELECT version, update_at FROM users WHERE user_id = ?", userId);
+        explain(fullScans, "SELECT version FROM teams WHERE team_id = ?", teamId);
+        explain(fullScans, "SELECT * FROM participants WHERE participant_user_id = ?", userId);
+
+        assertTrue(fullScans.isEmpty(), "full scans:\n" + String.join("\n", fullScans));
+    }
+
+    private void explain(List<String> fullScans, String sql, Object... args) {
+        for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + sql, args)) {
+            Object type = row.get("type");
+            if (type != null && FULL_SCAN_TYPES.contains(type.toString())) {
+                fullScans.add(type + " on " + row.get("table") + ": " + sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.eumserver.domain.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationCacheTest {
+
+    @Test
+    @DisplayName("캐시_히트_미스_카운트")
+    void hit_and_miss_are_counted() {
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(10, new SimpleMeterRegistry());
+        AuthenticatedToken authenticatedToken = authenticatedToken(System.currentTimeMillis() + 60_000);
+
+        assertNull(cache.get("token"));
+        cache.put("token", authenticatedToken);
+
+        assertSame(authenticatedToken, cache.get("token"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("만료된_토큰은_캐시되지_않음")
+    void expired_entry_is_not_returned() {
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(10, new SimpleMeterRegistry());
+
+        cache.put("expired", authenticatedToken(System.currentTimeMillis() - 1));
+
+        assertNull(cache.get("expired"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("최대_크기를_넘지_않음")
+    void size_is_bounded() {
+        JwtAuthenticationCache cache = new JwtAuthenticationCache(100, new SimpleMeterRegistry());
+        AuthenticatedToken authenticatedToken = authenticatedToken(System.currentTimeMillis() + 60_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("token-" + i, authenticatedToken);
+        }
+
+        assertTrue(cache.size() <= 100);
+    }
+
+    private static AuthenticatedToken authenticatedToken(long expirationInMs) {
+        return AuthenticatedToken.of(new VerifiedToken(
+                "jti", null, 1L, "user@e-um.site", "user", "avatar", List.of(), new Date(), new Date(expirationInMs)));
+    }
+}
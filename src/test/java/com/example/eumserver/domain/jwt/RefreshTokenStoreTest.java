@@ -0,0 +1,93 @@
+package com.example.eumserver.domain.jwt;
+
+import com.example.eumserver.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testcontainers로 띄운 Redis에서 사용자별 세션 상한과 정리를 검증합니다.
+ */
+class RefreshTokenStoreTest extends BaseIntegrationTest {
+
+    private static final int USERS = 2_000;
+    private static final int SESSIONS_PER_USER = 4;
+    private static final int MAX_SESSIONS = 3;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Test
+    @DisplayName("상한을_넘으면_가장_오래된_세션부터_정리")
+    void oldest_session_is_evicted() {
+        RefreshTokenStore store = new RefreshTokenStore(redisTemplate, redisTemplate, 2, 10_000);
+        long userId = newUserId();
+        long now = System.currentTimeMillis();
+
+        RefreshToken oldest = refreshToken(now + 60_000);
+        store.create(userId, oldest, "oldest");
+        store.create(userId, refreshToken(now + 61_000), "middle");
+        long evicted = store.create(userId, refreshToken(now + 62_000), "newest");
+
+        assertEquals(1, evicted);
+        List<RefreshSession> sessions = store.findSessions(userId);
+        assertEquals(2, sessions.size());
+        assertTrue(sessions.stream().noneMatch(session -> session.sessionId().equals(oldest.sessionId())));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("rt:session:" + oldest.sessionId())));
+    }
+
+    @Test
+    @DisplayName("여러_사용자가_동시에_여러_세션을_만들어도_상한_유지")
+    void many_users_with_several_sessions() throws Exception {
+        RefreshTokenStore store = new RefreshTokenStore(redisTemplate, redisTemplate, MAX_SESSIONS, 10_000);
+        long firstUserId = newUserId();
+        long expirationInMs = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+        AtomicLong evicted = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int user = 0; user < USERS; user++) {
+                long userId = firstUserId + user;
+                futures.add(executor.submit(() -> {
+                    for (int session = 0; session < SESSIONS_PER_USER; session++) {
+                        evicted.addAndGet(store.create(userId, refreshToken(expirationInMs + session), "load-test"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals((long) USERS * (SESSIONS_PER_USER - MAX_SESSIONS), evicted.get());
+        for (int user = 0; user < USERS; user++) {
+            assertEquals(MAX_SESSIONS, store.findSessions(firstUserId + user).size());
+        }
+    }
+
+    private static RefreshToken refreshToken(long expirationInMs) {
+        return new RefreshToken("token", UUID.randomUUID().toString(), UUID.randomUUID().toString(), expirationInMs);
+    }
+
+    /**
+     * 테스트 Redis 컨테이너는 재사용되므로 실행마다 다른 사용자 ID 구간을 씁니다.
+     */
+    private static long newUserId() {
+        return ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE / 2);
+    }
+}
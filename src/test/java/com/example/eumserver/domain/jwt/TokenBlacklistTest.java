@@ -0,0 +1,136 @@
+package com.example.eumserver.domain.jwt;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.user.Name;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testcontainers로 띄운 Redis를 stand-in으로 사용하여 Bloom filter와 Redis 동기화를 검증합니다.
+ */
+class TokenBlacklistTest extends BaseIntegrationTest {
+
+    @Autowired
+    TokenBlacklist tokenBlacklist;
+
+    @Autowired
+    JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private long accessExpirationInMs;
+
+    @BeforeEach
+    void setUp() {
+        accessExpirationInMs = JwtTokenProvider.AC_EXPIRATION_IN_MS;
+        jwtTokenProvider.setAcExpirationInMs(TimeUnit.MINUTES.toMillis(1));
+        tokenBlacklist.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwtTokenProvider.setAcExpirationInMs(accessExpirationInMs);
+    }
+
+    @Test
+    @DisplayName("로그아웃한_토큰은_차단")
+    void revoked_token_is_detected() {
+        String accessToken = issueAccessToken();
+        VerifiedToken token = jwtTokenProvider.verify(accessToken);
+
+        tokenBlacklist.revoke(token, accessToken);
+
+        assertTrue(tokenBlacklist.isRevoked(token, accessToken));
+    }
+
+    @Test
+    @DisplayName("로그아웃_키는_토큰_만료와_함께_만료")
+    void revocation_expires_with_token() {
+        String accessToken = issueAccessToken();
+        VerifiedToken token = jwtTokenProvider.verify(accessToken);
+
+        tokenBlacklist.revoke(token, accessToken);
+
+        String key = TokenBlacklist.revocationKey(token, accessToken);
+        assertEquals("bl:" + token.tokenId(), key);
+        Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= token.expirationInMs() - System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    @DisplayName("로그아웃하지_않은_토큰은_Redis_조회_없이_통과")
+    void unknown_token_skips_redis() {
+        String accessToken = issueAccessToken();
+        double before = negativeLookups();
+
+        assertFalse(tokenBlacklist.isRevoked(jwtTokenProvider.verify(accessToken), accessToken));
+
+        assertEquals(before + 1, negativeLookups());
+    }
+
+    @Test
+    @DisplayName("다른_서버에서_추가된_토큰도_재생성시_반영")
+    void rebuild_picks_up_external_revocations() {
+        String accessToken = issueAccessToken();
+        VerifiedToken token = jwtTokenProvider.verify(accessToken);
+        redisTemplate.opsForValue().set(TokenBlacklist.revocationKey(token, accessToken), "1");
+
+        tokenBlacklist.rebuild();
+
+        assertTrue(tokenBlacklist.isRevoked(token, accessToken));
+    }
+
+    @Test
+    @DisplayName("jti_키는_토큰_원문_키보다_메모리를_적게_사용")
+    void jti_key_uses_less_memory_than_raw_token() {
+        String accessToken = issueAccessToken();
+        VerifiedToken token = jwtTokenProvider.verify(accessToken);
+        redisTemplate.opsForValue().set(accessToken, "logout");
+        tokenBlacklist.revoke(token, accessToken);
+
+        long legacyBytes = memoryUsage(accessToken);
+        long jtiBytes = memoryUsage(TokenBlacklist.revocationKey(token, accessToken));
+        redisTemplate.delete(accessToken);
+
+        assertTrue(jtiBytes * 3 < legacyBytes, "jti: " + jtiBytes + " bytes, raw token: " + legacyBytes + " bytes");
+    }
+
+    private String issueAccessToken() {
+        return jwtTokenProvider.generateAccessToken(new PrincipalDetails(
+                1L,
+                "test@e-um.site",
+                new Name("test", ""),
+                "avatar",
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private long memoryUsage(String key) {
+        Object usage = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(
+                "MEMORY",
+                "USAGE".getBytes(StandardCharsets.UTF_8),
+                key.getBytes(StandardCharsets.UTF_8)));
+        return ((Number) usage).longValue();
+    }
+
+    private double negativeLookups() {
+        return meterRegistry.get("jwt.blacklist.lookups").tag("result", "negative").counter().count();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.eumserver.domain.oauth2.service;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.jwt.JwtTokenProvider;
+import com.example.eumserver.domain.jwt.PrincipalDetails;
+import com.example.eumserver.domain.jwt.RefreshToken;
+import com.example.eumserver.domain.jwt.RefreshTokenStore;
+import com.example.eumserver.domain.oauth2.dto.SessionResponse;
+import com.example.eumserver.domain.user.Name;
+import com.example.eumserver.global.error.CustomException;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.eumserver.global.utils.CookieUtils.COOKIE_REFRESH_TOKEN;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthServiceTest extends BaseIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    @Autowired
+    AuthService authService;
+
+    @Autowired
+    JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+
+    private long refreshExpirationInMs;
+
+    @BeforeEach
+    void setUp() {
+        refreshExpirationInMs = JwtTokenProvider.RF_EXPIRATION_IN_MS;
+        jwtTokenProvider.setRfExpirationInMs(TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwtTokenProvider.setRfExpirationInMs(refreshExpirationInMs);
+    }
+
+    @Test
+    @DisplayName("Refresh_Token_재발급_후_기존_토큰은_사용_불가")
+    void rotated_token_cannot_be_reused() {
+        PrincipalDetails principalDetails = principalDetails();
+        String refreshToken = login(principalDetails);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authService.reissueToken(requestWith(refreshToken), response);
+
+        Cookie newRefreshToken = response.getCookie(COOKIE_REFRESH_TOKEN);
+        assertNotNull(newRefreshToken);
+        assertNotEquals(refreshToken, newRefreshToken.getValue());
+        assertThrows(CustomException.class,
+                () -> authService.reissueToken(requestWith(refreshToken), new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("같은_Refresh_Token으로_동시에_재발급하면_하나만_성공")
+    void concurrent_reissue_succeeds_once() throws Exception {
+        PrincipalDetails principalDetails = principalDetails();
+        String refreshToken = login(principalDetails);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        ConcurrentLinkedQueue<String> issued = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    try {
+                        authService.reissueToken(requestWith(refreshToken), response);
+                        issued.add(response.getCookie(COOKIE_REFRESH_TOKEN).getValue());
+                    } catch (CustomException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, issued.size());
+        assertEquals(CONCURRENT_REQUESTS - 1, rejected.get());
+
+        String winner = issued.peek();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authService.reissueToken(requestWith(winner), response);
+        assertNotNull(response.getCookie(COOKIE_REFRESH_TOKEN));
+    }
+
+    @Test
+    @DisplayName("다른_기기에서_로그인해도_기존_세션은_유지")
+    void second_device_keeps_first_session() {
+        PrincipalDetails principalDetails = principalDetails();
+        String firstDevice = login(principalDetails);
+        String secondDevice = login(principalDetails);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authService.reissueToken(requestWith(firstDevice), response);
+        authService.reissueToken(requestWith(secondDevice), new MockHttpServletResponse());
+
+        List<SessionResponse> sessions = authService.getSessions(
+                principalDetails.getUserId(), response.getCookie(COOKIE_REFRESH_TOKEN).getValue());
+        assertEquals(2, sessions.size());
+        assertEquals(1, sessions.stream().filter(SessionResponse::current).count());
+    }
+
+    @Test
+    @DisplayName("이미_교체된_토큰을_재사용하면_세션_전체를_폐기")
+    void reuse_revokes_family() {
+        PrincipalDetails principalDetails = principalDetails();
+        String first = login(principalDetails);
+        String second = reissue(first);
+        String third = reissue(second);
+
+        assertThrows(CustomException.class, () -> reissue(first));
+        assertThrows(CustomException.class, () -> reissue(third));
+        assertTrue(authService.getSessions(principalDetails.getUserId(), third).isEmpty());
+    }
+
+    @Test
+    @DisplayName("세션을_폐기하면_해당_기기의_토큰만_사용_불가")
+    void revoke_session() {
+        PrincipalDetails principalDetails = principalDetails();
+        String firstDevice = login(principalDetails);
+        String secondDevice = login(principalDetails);
+        String firstSessionId = jwtTokenProvider.verify(firstDevice).sessionId();
+
+        authService.revokeSession(principalDetails.getUserId(), firstSessionId);
+
+        assertThrows(CustomException.class, () -> reissue(firstDevice));
+        assertNotNull(reissue(secondDevice));
+        assertThrows(CustomException.class,
+                () -> authService.revokeSession(principalDetails.getUserId(), firstSessionId));
+    }
+
+    private String login(PrincipalDetails principalDetails) {
+        RefreshToken refreshToken = jwtTokenProvider.generateRefreshToken(principalDetails);
+        refreshTokenStore.create(principalDetails.getUserId(), refreshToken, "test");
+        return refreshToken.value();
+    }
+
+    private String reissue(String refreshToken) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authService.reissueToken(requestWith(refreshToken), response);
+        return response.getCookie(COOKIE_REFRESH_TOKEN).getValue();
+    }
+
+    private static MockHttpServletRequest requestWith(String refreshToken) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(COOKIE_REFRESH_TOKEN, refreshToken));
+        return request;
+    }
+
+    /**
+     * 테스트 Redis 컨테이너는 재사용되므로 실행마다 다른 사용자 ID를 씁니다.
+     */
+    private static PrincipalDetails principalDetails() {
+        return new PrincipalDetails(
+                ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE),
+                "test@e-um.site",
+                new Name("test", ""),
+                "avatar",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
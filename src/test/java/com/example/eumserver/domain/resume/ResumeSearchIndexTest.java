@@ -0,0 +1,104 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.domain.resume.dto.ResumeFacetCount;
+import com.example.eumserver.domain.resume.dto.ResumeSearchFilter;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResponse;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeSearchIndexTest {
+
+    private static final ResumeSearchFilter ALL = new ResumeSearchFilter(null, null, null, null, null, null);
+
+    @Test
+    @DisplayName("조건은_모두_만족하는_이력서만_최근_순으로")
+    void filters_are_combined_and_sorted_by_newest() {
+        ResumeSearchIndex index = new ResumeSearchIndex();
+        index.put(document(1L, "development", "backend", 4.0, List.of("정보처리기사"), List.of("Spring", "MySQL")));
+        index.put(document(2L, "development", "frontend", 3.5, List.of("정보처리기사"), List.of("React")));
+        index.put(document(3L, "Development", "Backend", 3.0, List.of(), List.of("spring", "Redis")));
+        index.put(document(4L, "design", "ui_ux", null, List.of(), List.of("Figma")));
+
+        assertEquals(List.of(3L, 1L), ids(index.search(filter("development", "backend", null, null, null, null), 0, 10)));
+        assertEquals(List.of(3L, 1L), ids(index.search(filter(null, null, null, null, null, List.of(" SPRING "))), 0, 10)));
+        assertEquals(List.of(1L), ids(index.search(filter(null, null, null, null, List.of("정보처리기사"), List.of("spring")), 0, 10)));
+        assertEquals(List.of(2L, 1L), ids(index.search(filter(null, null, 3.5, 4.0, null, null), 0, 10)));
+        assertEquals(List.of(), ids(index.search(filter("development", null, null, null, null, List.of("figma")), 0, 10)));
+        assertEquals(List.of(), ids(index.search(filter(null, null, null, null, List.of("unknown"), null), 0, 10)));
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(index.search(ALL, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("facet은_검색_결과_안에서_센_값별_이력서_수")
+    void facets_count_matching_resumes() {
+        ResumeSearchIndex index = new ResumeSearchIndex();
+        index.put(document(1L, "development", "backend", 4.0, List.of(), List.of("Spring", "MySQL")));
+        index.put(document(2L, "development", "frontend", 3.5, List.of(), List.of("React", "TypeScript")));
+        index.put(document(3L, "development", "backend", 3.0, List.of(), List.of("Spring", "Redis")));
+        index.put(document(4L, "design", "ui_ux", 3.0, List.of(), List.of("Figma")));
+
+        ResumeSearchResponse response = index.search(filter("development", null, null, null, null, null), 0, 10);
+
+        assertEquals(3, response.totalCount());
+        assertEquals(List.of(new ResumeFacetCount("development", 3)), response.facets().get("jobCategory"));
+        assertEquals(List.of(new ResumeFacetCount("backend", 2), new ResumeFacetCount("frontend", 1)),
+                response.facets().get("jobSubcategory"));
+        assertEquals(new ResumeFacetCount("spring", 2), response.facets().get("technologies").get(0));
+        assertEquals(List.of(), response.facets().get("certificates"));
+    }
+
+    @Test
+    @DisplayName("수정과_삭제가_posting에_반영")
+    void put_and_remove_update_postings() {
+        ResumeSearchIndex index = new ResumeSearchIndex();
+        index.put(document(1L, "development", "backend", 4.0, List.of(), List.of("Spring")));
+        index.put(document(2L, "development", "backend", 4.0, List.of(), List.of("Spring")));
+
+        index.put(document(1L, "development", "frontend", 4.0, List.of(), List.of("React")));
+        assertEquals(List.of(2L), ids(index.search(filter(null, null, null, null, null, List.of("spring")), 0, 10)));
+        assertEquals(List.of(1L), ids(index.search(filter(null, "frontend", null, null, null, null), 0, 10)));
+
+        index.remove(2L);
+        assertEquals(List.of(), ids(index.search(filter(null, null, null, null, null, List.of("spring")), 0, 10)));
+        assertEquals(List.of(1L), ids(index.search(ALL, 0, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("페이지는_전체_결과를_ID_역순으로_나눔")
+    void pages_split_results_by_id() {
+        ResumeSearchIndex index = new ResumeSearchIndex();
+        // 다른 서버에서 먼저 할당된 ID가 늦게 색인되어도 ID 순으로 나옵니다.
+        for (long id : new long[]{5, 1, 4, 2, 3}) {
+            index.put(document(id, "development", "backend", 4.0, List.of(), List.of()));
+        }
+
+        ResumeSearchResponse first = index.search(ALL, 0, 2);
+        ResumeSearchResponse last = index.search(ALL, 2, 2);
+
+        assertEquals(List.of(5L, 4L), ids(first));
+        assertTrue(first.hasNext());
+        assertEquals(List.of(1L), ids(last));
+        assertFalse(last.hasNext());
+        assertEquals(5, last.totalCount());
+    }
+
+    private static ResumeSearchFilter filter(String jobCategory, String jobSubcategory, Double minGpa, Double maxGpa,
+                                             List<String> certificates, List<String> technologies) {
+        return new ResumeSearchFilter(jobCategory, jobSubcategory, minGpa, maxGpa, certificates, technologies);
+    }
+
+    private static ResumeSearchResult document(long id, String jobCategory, String jobSubcategory, Double gpa,
+                                               List<String> certificates, List<String> technologies) {
+        return new ResumeSearchResult(id, id, "resume" + id, jobCategory, jobSubcategory, gpa, certificates, technologies);
+    }
+
+    private static List<Long> ids(ResumeSearchResponse response) {
+        return response.content().stream().map(ResumeSearchResult::id).toList();
+    }
+}
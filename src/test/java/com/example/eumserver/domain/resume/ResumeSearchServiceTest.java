@@ -0,0 +1,102 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.resume.dto.ResumeCareerRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCertificateRequest;
+import com.example.eumserver.domain.resume.dto.ResumeRequest;
+import com.example.eumserver.domain.resume.dto.ResumeSearchFilter;
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import com.example.eumserver.domain.user.Name;
+import com.example.eumserver.domain.user.User;
+import com.example.eumserver.domain.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이력서 등록, 수정, 삭제가 검색 index에 반영되는지 확인합니다.
+ * index는 commit 이후에 갱신되므로 테스트 transaction 없이 실행합니다.
+ * 세부 직무를 실행마다 다르게 하여 다른 테스트의 이력서와 섞이지 않게 합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ResumeSearchServiceTest extends BaseIntegrationTest {
+
+    @Autowired
+    ResumeService resumeService;
+
+    @Autowired
+    ResumeSearchService resumeSearchService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("등록_비공개_전환_수정_삭제가_검색에_반영")
+    void search_follows_resume_changes() {
+        String subcategory = "search-" + UUID.randomUUID();
+        User user = createUser();
+        long resumeId = resumeService.postResume(request(subcategory, true, "Spring, MySQL"), user.getId()).getId();
+
+        List<ResumeSearchResult> found = search(subcategory, "mysql");
+        assertEquals(1, found.size());
+        assertEquals(resumeId, found.get(0).id());
+        assertEquals(user.getId(), found.get(0).userId());
+        assertEquals(List.of("정보처리기사"), found.get(0).certificates());
+        assertEquals(List.of("Spring", "MySQL"), found.get(0).technologies());
+
+        resumeService.updateResume(request(subcategory, false, "Spring, MySQL"), resumeId, user.getId());
+        assertEquals(List.of(), search(subcategory, null));
+
+        resumeService.updateResume(request(subcategory, true, "Kotlin / Redis"), resumeId, user.getId());
+        assertEquals(List.of(), search(subcategory, "mysql"));
+        assertEquals(1, search(subcategory, "redis").size());
+
+        resumeService.deleteResume(resumeId, user.getId());
+        assertEquals(List.of(), search(subcategory, null));
+    }
+
+    @Test
+    @DisplayName("index를_다시_만들면_MySQL의_공개_이력서와_같음")
+    void rebuild_loads_public_resumes() {
+        String subcategory = "search-" + UUID.randomUUID();
+        User user = createUser();
+        resumeService.postResume(request(subcategory, true, "Spring"), user.getId());
+        resumeService.postResume(request(subcategory, false, "Spring"), user.getId());
+
+        resumeSearchService.rebuild();
+
+        assertEquals(1, search(subcategory, "spring").size());
+        assertTrue(resumeSearchService.size() >= 1);
+    }
+
+    private List<ResumeSearchResult> search(String subcategory, String technology) {
+        ResumeSearchFilter filter = new ResumeSearchFilter("development", subcategory, null, null, null,
+                technology == null ? null : List.of(technology));
+        return resumeSearchService.search(filter, 0, ResumeSearchService.DEFAULT_PAGE_SIZE).content();
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@e-um.site")
+                .name(new Name("search", ""))
+                .provider("google")
+                .providerId(UUID.randomUUID().toString())
+                .build());
+    }
+
+    private static ResumeRequest request(String subcategory, boolean isPublic, String technologies) {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        return new ResumeRequest("search", "development", subcategory, 4.0, 4.5, "introduction", isPublic,
+                List.of(new ResumeCareerRequest(null, "company", "backend", startDate, null, technologies, null, null)),
+                List.of(new ResumeCertificateRequest(null, "정보처리기사", startDate, null, null, null)),
+                List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.eumserver.domain.resume;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.resume.dto.ResumeActivityRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCareerRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCareerResponse;
+import com.example.eumserver.domain.resume.dto.ResumeCertificateRequest;
+import com.example.eumserver.domain.resume.dto.ResumeHomepageRequest;
+import com.example.eumserver.domain.resume.dto.ResumeProjectRequest;
+import com.example.eumserver.domain.resume.dto.ResumeRequest;
+import com.example.eumserver.domain.resume.dto.ResumeResponse;
+import com.example.eumserver.domain.resume.entity.HomepageType;
+import com.example.eumserver.domain.resume.entity.Resume;
+import com.example.eumserver.domain.resume.entity.ResumeActivity;
+import com.example.eumserver.domain.resume.entity.ResumeCareer;
+import com.example.eumserver.domain.resume.entity.ResumeCertificate;
+import com.example.eumserver.domain.resume.entity.ResumeHomepage;
+import com.example.eumserver.domain.resume.entity.ResumeProject;
+import com.example.eumserver.domain.user.Name;
+import com.example.eumserver.domain.user.User;
+import com.example.eumserver.global.error.CustomException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이력서 조회의 query 수가 이력서 수와 관계없이 고정되어 있는지 확인합니다.
+ * 이력서 수정은 바뀐 하위 항목에만 INSERT, UPDATE, DELETE가 나가는지 확인합니다.
+ * 이력서 등록은 INSERT가 종류마다 batch로 묶이는지 확인하고 등록 시간을 측정합니다.
+ */
+class ResumeServiceTest extends BaseIntegrationTest {
+
+    /**
+     * 사용자 확인, 이력서, 하위 항목 다섯 종류
+     */
+    private static final int LIST_QUERIES = 7;
+
+    /**
+     * 사용자 조회, 이력서와 하위 항목 다섯 종류의 INSERT batch, 그리고 ID 50개를 다 쓴 sequence마다 조회와 갱신
+     */
+    private static final int POST_MAX_QUERIES = 1 + 6 + 6 * 2;
+
+    @Autowired
+    ResumeService resumeService;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("이력서_목록_조회는_이력서_수와_무관하게_고정된_query_수")
+    void resume_list_query_count_is_fixed() {
+        User single = createUser();
+        User many = createUser();
+        createResumes(single, 1);
+        createResumes(many, 20);
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        em.clear();
+        statistics.clear();
+        List<ResumeResponse> singleResumes = resumeService.getAllMyResume(single.getId());
+        assertEquals(1, singleResumes.size());
+        assertEquals(LIST_QUERIES, statistics.getPrepareStatementCount());
+
+        em.clear();
+        statistics.clear();
+        List<ResumeResponse> manyResumes = resumeService.getAllMyResume(many.getId());
+        assertEquals(20, manyResumes.size());
+        assertEquals(LIST_QUERIES, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+
+        for (ResumeResponse resume : manyResumes) {
+            assertEquals(2, resume.careers().size());
+            assertEquals(2, resume.activities().size());
+            assertEquals(2, resume.certificates().size());
+            assertEquals(2, resume.projects().size());
+            assertEquals(2, resume.homepages().size());
+            assertTrue(resume.careers().stream().allMatch(career -> career.companyName().equals(resume.title())));
+        }
+
+        em.clear();
+        statistics.clear();
+        List<ResumeResponse> publicResumes = resumeService.getAllUserResume(many.getId());
+        assertEquals(10, publicResumes.size());
+        assertTrue(publicResumes.stream().allMatch(ResumeResponse::isPublic));
+        assertEquals(LIST_QUERIES, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("하위_항목이_없는_이력서는_빈_목록")
+    void resume_without_children_has_empty_lists() {
+        User user = createUser();
+        ResumeRequest request = new ResumeRequest("empty", "development", "backend", null, null, "introduction", true,
+                null, null, null, null, null);
+        long resumeId = resumeService.postResume(request, user.getId()).getId();
+        em.flush();
+        em.clear();
+
+        ResumeResponse resume = resumeService.getResume(user.getId(), resumeId);
+
+        assertEquals("empty", resume.title());
+        assertEquals(List.of(), resume.careers());
+        assertEquals(List.of(), resume.homepages());
+    }
+
+    @Test
+    @DisplayName("하위_항목_50개인_이력서_등록은_INSERT를_batch로_묶음")
+    void post_resume_with_50_children_batches_inserts() {
+        User user = createUser();
+        ResumeRequest request = resumeRequest("batch", true, 10);
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        resumeService.postResume(request, user.getId());
+        em.flush();
+
+        // 종류마다 10개씩이므로 다섯 번에 한 번은 미리 받아 둔 ID 50개를 다 써서 sequence를 다시 읽습니다.
+        for (int i = 0; i < 6; i++) {
+            em.clear();
+            statistics.clear();
+            resumeService.postResume(request, user.getId());
+            em.flush();
+
+            assertEquals(1, statistics.getEntityStatistics(Resume.class.getName()).getInsertCount());
+            assertEquals(50, childWrites(statistics));
+            assertTrue(statistics.getPrepareStatementCount() <= POST_MAX_QUERIES,
+                    statistics.getPrepareStatementCount() + " statements for 51 rows");
+        }
+    }
+
+    @Test
+    @DisplayName("제목만_수정하면_하위_항목은_그대로")
+    void title_only_edit_touches_resume_row_only() {
+        User user = createUser();
+        createResumes(user, 1);
+        ResumeResponse resume = resumeService.getAllMyResume(user.getId()).get(0);
+        ResumeRequest request = toRequest(resume, "renamed", resume.careers());
+
+        Statistics statistics = updateAndFlush(request, resume.id(), user.getId());
+
+        assertEquals(1, statistics.getEntityStatistics(Resume.class.getName()).getUpdateCount());
+        assertEquals(0, childWrites(statistics));
+        assertEquals(resume.careers(), resumeService.getResume(user.getId(), resume.id()).careers());
+    }
+
+    @Test
+    @DisplayName("경력_하나만_수정하면_그_행만_UPDATE")
+    void single_career_edit_updates_one_row() {
+        User user = createUser();
+        createResumes(user, 1);
+        ResumeResponse resume = resumeService.getAllMyResume(user.getId()).get(0);
+        ResumeCareerResponse edited = resume.careers().get(0);
+        List<ResumeCareerResponse> careers = List.of(
+                new ResumeCareerResponse(edited.id(), "edited", edited.companyRole(), edited.startDate(), edited.endDate(),
+                        edited.technologiesUsed(), edited.companyWebsiteUrl(), edited.achievement()),
+                resume.careers().get(1));
+
+        Statistics statistics = updateAndFlush(toRequest(resume, resume.title(), careers), resume.id(), user.getId());
+
+        assertEquals(1, statistics.getEntityStatistics(ResumeCareer.class.getName()).getUpdateCount());
+        assertEquals(1, childWrites(statistics));
+        assertEquals(careers, resumeService.getResume(user.getId(), resume.id()).careers());
+    }
+
+    @Test
+    @DisplayName("요청에_없는_항목은_삭제하고_ID가_없는_항목은_추가")
+    void removed_and_new_items_are_deleted_and_inserted() {
+        User user = createUser();
+        createResumes(user, 1);
+        ResumeResponse resume = resumeService.getAllMyResume(user.getId()).get(0);
+        ResumeCareerResponse kept = resume.careers().get(0);
+        List<ResumeCareerResponse> careers = List.of(
+                kept,
+                new ResumeCareerResponse(null, "new", "backend", kept.startDate(), null, null, null, null));
+
+        Statistics statistics = updateAndFlush(toRequest(resume, resume.title(), careers), resume.id(), user.getId());
+
+        EntityStatistics careerStatistics = statistics.getEntityStatistics(ResumeCareer.class.getName());
+        assertEquals(1, careerStatistics.getInsertCount());
+        assertEquals(1, careerStatistics.getDeleteCount());
+        assertEquals(2, childWrites(statistics));
+        List<ResumeCareerResponse> saved = resumeService.getResume(user.getId(), resume.id()).careers();
+        assertEquals(kept.id(), saved.get(0).id());
+        assertEquals(List.of(kept.companyName(), "new"), saved.stream().map(ResumeCareerResponse::companyName).toList());
+    }
+
+    @Test
+    @DisplayName("다른_이력서의_항목_ID로는_수정할_수_없음")
+    void rejects_item_of_other_resume() {
+        User user = createUser();
+        createResumes(user, 2);
+        List<ResumeResponse> resumes = resumeService.getAllMyResume(user.getId());
+        ResumeResponse resume = resumes.get(0);
+        ResumeRequest request = toRequest(resume, resume.title(), resumes.get(1).careers());
+
+        assertThrows(CustomException.class, () -> resumeService.updateResume(request, resume.id(), user.getId()));
+    }
+
+    private Statistics updateAndFlush(ResumeRequest request, long resumeId, long userId) {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        em.clear();
+        statistics.clear();
+        resumeService.updateResume(request, resumeId, userId);
+        em.flush();
+        em.clear();
+        return statistics;
+    }
+
+    /**
+     * 하위 항목 다섯 종류의 INSERT, UPDATE, DELETE 수
+     */
+    private static long childWrites(Statistics statistics) {
+        return Stream.of(ResumeCareer.class, ResumeActivity.class, ResumeCertificate.class, ResumeProject.class, ResumeHomepage.class)
+                .map(type -> statistics.getEntityStatistics(type.getName()))
+                .mapToLong(entity -> entity.getInsertCount() + entity.getUpdateCount() + entity.getDeleteCount())
+                .sum();
+    }
+
+    /**
+     * 조회한 이력서를 그대로 보내는 수정 요청, 제목과 경력만 바꿉니다.
+     */
+    private static ResumeRequest toRequest(ResumeResponse resume, String title, List<ResumeCareerResponse> careers) {
+        return new ResumeRequest(title, resume.jobCategory(), resume.jobSubcategory(), resume.gpa(), resume.totalScore(),
+                resume.introduction(), resume.isPublic(),
+                careers.stream().map(career -> new ResumeCareerRequest(career.id(), career.companyName(), career.companyRole(),
+                        career.startDate(), career.endDate(), career.technologiesUsed(), career.companyWebsiteUrl(), career.achievement())).toList(),
+                resume.certificates().stream().map(certificate -> new ResumeCertificateRequest(certificate.id(), certificate.title(),
+                        certificate.startDate(), certificate.endDate(), certificate.certificateUrl(), certificate.introduction())).toList(),
+                resume.projects().stream().map(project -> new ResumeProjectRequest(project.id(), project.title(), project.projectRole(),
+                        project.startDate(), project.endDate(), project.projectUrl(), project.introduction())).toList(),
+                resume.homepages().stream().map(homepage -> new ResumeHomepageRequest(homepage.id(), homepage.homepageType(),
+                        homepage.homepageUrl())).toList(),
+                resume.activities().stream().map(activity -> new ResumeActivityRequest(activity.id(), activity.title(),
+                        activity.startDate(), activity.endDate(), activity.activityUrl(), activity.introduction())).toList());
+    }
+
+    private User createUser() {
+        User user = User.builder()
+                .email(UUID.randomUUID() + "@e-um.site")
+                .name(new Name("resume", ""))
+                .provider("google")
+                .providerId(UUID.randomUUID().toString())
+                .build();
+        em.persist(user);
+        return user;
+    }
+
+    /**
+     * 짝수 번째 이력서만 공개하며, 하위 항목은 종류마다 두 개씩 넣습니다.
+     * 경력의 회사 이름은 이력서 제목과 같게 하여 하위 항목이 제 이력서에 붙었는지 확인합니다.
+     */
+    private void createResumes(User user, int count) {
+        for (int i = 0; i < count; i++) {
+            resumeService.postResume(resumeRequest("r" + i, i % 2 == 0, 2), user.getId());
+        }
+        em.flush();
+    }
+
+    /**
+     * 하위 항목을 종류마다 {@code perKind}개씩 가진 새 이력서 요청
+     */
+    private static ResumeRequest resumeRequest(String title, boolean isPublic, int perKind) {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        return new ResumeRequest(title, "development", "backend", 4.0, 4.5, "introduction", isPublic,
+                IntStream.range(0, perKind).mapToObj(n -> new ResumeCareerRequest(null, title, "backend", startDate, null, null, null, null)).toList(),
+                IntStream.range(0, perKind).mapToObj(n -> new ResumeCertificateRequest(null, "certificate", startDate, null, null, null)).toList(),
+                IntStream.range(0, perKind).mapToObj(n -> new ResumeProjectRequest(null, "project", "backend", startDate, null, null, null)).toList(),
+                IntStream.range(0, perKind).mapToObj(n -> new ResumeHomepageRequest(null, HomepageType.GITHUB, "https://github.com")).toList(),
+                IntStream.range(0, perKind).mapToObj(n -> new ResumeActivityRequest(null, "activity", startDate, null, null, null)).toList());
+    }
+}
@@ -11,7 +11,9 @@ import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -19,7 +21,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -79,7 +84,9 @@ class AnnouncementControllerTest extends BaseIntegrationTest {
         resultActions
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value(announcement.getTitle()))
-                .andExpect(jsonPath("$.description").value(announcement.getDescription()));
+                .andExpect(jsonPath("$.description").value(announcement.getDescription()))
+                .andExpect(jsonPath("$.occupationClassifications.length()").value(3))
+                .andExpect(jsonPath("$.occupationClassifications.[0]").value(OccupationClassification.DEVELOPMENT_BACKEND.getValue()));
     }
 
     @Test
@@ -112,6 +119,58 @@ class AnnouncementControllerTest extends BaseIntegrationTest {
                 .andExpect(jsonPath("$.content.[0].description").value(announcement.getDescription()));
     }
 
+    @Test
+    @DisplayName("공고_cursor_페이징_조회-성공")
+    @WithMockUser
+    void get_announcements_with_cursor_success() throws Exception {
+        Team team = createTeam();
+        for (int i = 0; i < 13; i++) {
+            createAnnouncement(team);
+        }
+        AnnouncementFilter filter = new AnnouncementFilter(false, List.of());
+
+        String firstPage = mockMvc.perform(
+                        get(BASE_URI + "/scroll", team.getId())
+                                .content(objectMapper.writeValueAsString(filter))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(12))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(
+                        get(BASE_URI + "/scroll", team.getId())
+                                .param("cursor", nextCursor)
+                                .content(objectMapper.writeValueAsString(filter))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("공고_cursor_페이징_조회-잘못된_cursor")
+    @WithMockUser
+    void get_announcements_with_invalid_cursor_fail() throws Exception {
+        Team team = createTeam();
+        AnnouncementFilter filter = new AnnouncementFilter(false, List.of());
+
+        mockMvc.perform(
+                        get(BASE_URI + "/scroll", team.getId())
+                                .param("cursor", "not-a-cursor")
+                                .content(objectMapper.writeValueAsString(filter))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("공고_수정-성공")
     @WithMockUser
@@ -146,10 +205,55 @@ class AnnouncementControllerTest extends BaseIntegrationTest {
         assertEquals(announcementUpdateRequest.description(), updatedAnnouncement.getDescription());
         assertEquals(announcementUpdateRequest.vacancies(), updatedAnnouncement.getVacancies());
         assertEquals(4, updatedAnnouncement.getOccupationClassifications().size());
+        assertEquals(OccupationClassification.toMask(announcementUpdateRequest.occupationClassifications()),
+                updatedAnnouncement.getOccupationMask());
         assertEquals(announcementUpdateRequest.publish(), updatedAnnouncement.isPublished());
         assertEquals(announcementUpdateRequest.expiredDate(), updatedAnnouncement.getExpiredDate());
     }
 
+    @Test
+    @DisplayName("공고_조건부_조회-변경이_없으면_304")
+    @WithMockUser
+    void get_announcement_not_modified() throws Exception {
+        Team team = createTeam();
+        Announcement announcement = createAnnouncement(team);
+        String uri = BASE_URI + "/{announcementId}";
+
+        MockHttpServletResponse response = mockMvc.perform(get(uri, team.getId(), announcement.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn()
+                .getResponse();
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(uri, team.getId(), announcement.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get(uri, team.getId(), announcement.getId())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, response.getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified());
+
+        AnnouncementUpdateRequest announcementUpdateRequest = new AnnouncementUpdateRequest(
+                "new title", "new description", 1, List.of(OccupationClassification.DEVELOPMENT_BACKEND),
+                false, LocalDateTime.parse("2024-12-12T10:00:00"));
+        mockMvc.perform(put(uri, team.getId(), announcement.getId())
+                        .content(objectMapper.writeValueAsString(announcementUpdateRequest))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        String updatedETag = mockMvc.perform(get(uri, team.getId(), announcement.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("new title"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, updatedETag);
+    }
+
     @Test
     @DisplayName("공고_삭제-성공")
     @WithMockUser
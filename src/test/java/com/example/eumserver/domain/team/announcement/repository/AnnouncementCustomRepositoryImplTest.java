@@ -0,0 +1,372 @@
+package com.example.eumserver.domain.team.announcement.repository;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.domain.QAnnouncement;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementCursor;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSlice;
+import com.example.eumserver.global.error.CustomException;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * offset 페이징과 cursor 페이징의 결과를 비교합니다.
+ * 공고는 JDBC로 한 번에 넣으며, 생성 시각은 두 개씩 같게 만들어 ID 정렬까지 확인합니다.
+ * 직종 필터는 migration이 채운 occupation_mask의 결과를 collection table EXISTS 조회와 비교합니다.
+ * 정렬별 cursor 페이징은 페이지를 읽는 사이사이에 공고를 추가하여 동시 등록 중에도 순서가 유지되는지 확인합니다.
+ * 100만 건에서의 응답 시간은 AnnouncementPagingBenchmark와 AnnouncementOccupationFilterBenchmark로 잽니다.
+ */
+class AnnouncementCustomRepositoryImplTest extends BaseIntegrationTest {
+
+    private static final int PAGE_SIZE = 12;
+    private static final AnnouncementFilter NO_FILTER = new AnnouncementFilter(false, List.of());
+
+    @Autowired
+    AnnouncementRepository announcementRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    @DisplayName("cursor_페이징은_offset_페이징과_같은_순서로_모든_공고를_반환")
+    void cursor_pages_match_offset_pages() {
+        Team team = createTeam();
+        seed(team, 100);
+
+        List<String> byOffset = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            List<AnnouncementResponse> content = announcementRepository
+                    .getFilteredAnnouncementsWithPaging(team.getId(), NO_FILTER, AnnouncementSort.NEWEST, PageRequest.of(page, PAGE_SIZE))
+                    .getContent();
+            if (content.isEmpty()) {
+                break;
+            }
+            content.forEach(response -> byOffset.add(response.title()));
+        }
+
+        List<String> byCursor = new ArrayList<>();
+        AnnouncementCursor cursor = null;
+        while (true) {
+            AnnouncementSlice slice = announcementRepository
+                    .getFilteredAnnouncementsWithCursor(team.getId(), NO_FILTER, AnnouncementSort.NEWEST, cursor, PAGE_SIZE);
+            slice.content().forEach(response -> byCursor.add(response.title()));
+            if (!slice.hasNext()) {
+                assertNull(slice.nextCursor());
+                break;
+            }
+            cursor = AnnouncementCursor.decode(slice.nextCursor(), AnnouncementSort.NEWEST);
+        }
+
+        assertEquals(100, byCursor.size());
+        assertEquals(100, byCursor.stream().distinct().count());
+        assertEquals(byOffset, byCursor);
+        assertTrue(Set.of("title-99", "title-98").contains(byCursor.get(0)));
+    }
+
+    @Test
+    @DisplayName("정렬별_cursor_페이징은_페이지_사이에_공고가_추가되어도_중복_누락_없이_정렬_순서를_유지")
+    void cursor_pages_are_stable_under_inserts() {
+        for (AnnouncementSort sort : AnnouncementSort.values()) {
+            Team team = createTeam();
+            seedVaried(team, "title-", 60, "2024-01-01");
+
+            List<String> titles = new ArrayList<>();
+            AnnouncementCursor cursor = null;
+            for (int page = 0; ; page++) {
+                AnnouncementSlice slice = announcementRepository
+                        .getFilteredAnnouncementsWithCursor(team.getId(), NO_FILTER, sort, cursor, PAGE_SIZE);
+                slice.content().forEach(response -> titles.add(response.title()));
+                if (!slice.hasNext()) {
+                    break;
+                }
+                seedVaried(team, "new-" + page + "-", 5, "2025-01-01");
+                cursor = AnnouncementCursor.decode(slice.nextCursor(), sort);
+            }
+
+            assertEquals(titles.size(), titles.stream().distinct().count(), sort + " returned a duplicate");
+            assertEquals(60, titles.stream().filter(title -> title.startsWith("title-")).count(), sort + " skipped a row");
+
+            Map<String, Row> rows = rows(team);
+            List<Row> listed = titles.stream().map(rows::get).toList();
+            assertEquals(listed.stream().sorted(order(sort)).toList(), listed, sort + " is out of order");
+        }
+    }
+
+    @Test
+    @DisplayName("offset_페이징은_페이지_사이에_최신_공고가_추가되면_앞_페이지의_공고를_다시_반환")
+    void offset_pages_repeat_rows_under_inserts() {
+        Team team = createTeam();
+        seedVaried(team, "title-", 60, "2024-01-01");
+
+        List<String> first = announcementRepository
+                .getFilteredAnnouncementsWithPaging(team.getId(), NO_FILTER, AnnouncementSort.NEWEST, PageRequest.of(0, PAGE_SIZE))
+                .getContent().stream().map(AnnouncementResponse::title).toList();
+        seedVaried(team, "new-", 5, "2025-01-01");
+        List<String> second = announcementRepository
+                .getFilteredAnnouncementsWithPaging(team.getId(), NO_FILTER, AnnouncementSort.NEWEST, PageRequest.of(1, PAGE_SIZE))
+                .getContent().stream().map(AnnouncementResponse::title).toList();
+
+        assertEquals(5, second.stream().filter(first::contains).count());
+    }
+
+    @Test
+    @DisplayName("다른_정렬의_cursor와_허용하지_않은_정렬은_거절")
+    void rejects_cursor_of_other_sort() {
+        String cursor = new AnnouncementCursor(AnnouncementSort.NEWEST, LocalDateTime.parse("2024-01-01T00:00"), 1L).encode();
+
+        assertEquals(AnnouncementSort.NEWEST, AnnouncementCursor.decode(cursor, AnnouncementSort.NEWEST).sort());
+        assertThrows(CustomException.class, () -> AnnouncementCursor.decode(cursor, AnnouncementSort.MOST_VACANCIES));
+        assertThrows(CustomException.class, () -> AnnouncementSort.from("date_created"));
+    }
+
+    @Test
+    @DisplayName("공고_페이지_조회는_페이지_크기와_무관하게_고정된_query_수")
+    void page_query_count_is_fixed() {
+        Team team = createTeam();
+        seed(team, 100);
+        seedOccupationClassifications(team);
+        backfillOccupationMask();
+        AnnouncementFilter filter = new AnnouncementFilter(false, List.of(OccupationClassification.DEVELOPMENT_BACKEND));
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        em.clear();
+        statistics.clear();
+        Page<AnnouncementResponse> page = announcementRepository
+                .getFilteredAnnouncementsWithPaging(team.getId(), NO_FILTER, AnnouncementSort.NEWEST, PageRequest.of(1, PAGE_SIZE));
+        page.getContent().forEach(response -> response.occupationClassifications().size());
+        assertEquals(PAGE_SIZE, page.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount(), "content + count");
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        em.clear();
+        statistics.clear();
+        AnnouncementSlice slice = announcementRepository
+                .getFilteredAnnouncementsWithCursor(team.getId(), filter, AnnouncementSort.NEWEST, null, PAGE_SIZE);
+        assertTrue(slice.content().stream().allMatch(response ->
+                response.occupationClassifications().contains(OccupationClassification.DEVELOPMENT_BACKEND)));
+        assertEquals(1, statistics.getPrepareStatementCount(), "content only");
+        assertEquals(0, statistics.getCollectionFetchCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("mask_backfill_후_직종_필터는_collection_table_EXISTS_조회와_같은_결과")
+    void occupation_mask_filter_matches_exists() {
+        Team team = createTeam();
+        seed(team, 1_000);
+        seedOccupationClassifications(team);
+
+        backfillOccupationMask();
+        assertEquals(masksByCollection(team), masks(team));
+
+        List<OccupationClassification> wanted = List.of(
+                OccupationClassification.DEVELOPMENT_BACKEND, OccupationClassification.DEVELOPMENT_DEVOPS);
+        AnnouncementFilter filter = new AnnouncementFilter(false, wanted);
+
+        Page<AnnouncementResponse> byMask = announcementRepository
+                .getFilteredAnnouncementsWithPaging(team.getId(), filter, AnnouncementSort.NEWEST, PageRequest.of(0, PAGE_SIZE));
+        assertEquals(countByExists(team.getId(), wanted), byMask.getTotalElements());
+        assertEquals(titlesByExists(team.getId(), wanted),
+                byMask.getContent().stream().map(AnnouncementResponse::title).toList());
+        assertTrue(byMask.getContent().stream()
+                .allMatch(response -> response.occupationClassifications().stream().anyMatch(wanted::contains)));
+    }
+
+    private Map<Long, Long> masks(Team team) {
+        return jdbcTemplate.query(
+                        "SELECT team_announcement_id, occupation_mask FROM team_announcements WHERE team_id = ?",
+                        (rs, rowNum) -> Map.entry(rs.getLong(1), rs.getLong(2)),
+                        team.getId())
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * collection table의 분류로 계산한 공고별 mask
+     */
+    private Map<Long, Long> masksByCollection(Team team) {
+        return jdbcTemplate.query("""
+                                SELECT c.announcement_team_announcement_id, c.occupation_classifications
+                                FROM announcement_occupation_classifications c
+                                JOIN team_announcements a ON a.team_announcement_id = c.announcement_team_announcement_id
+                                WHERE a.team_id = ?
+                                """,
+                        (rs, rowNum) -> Map.entry(rs.getLong(1), OccupationClassification.valueOf(rs.getString(2)).bit()),
+                        team.getId())
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (left, right) -> left | right));
+    }
+
+    /**
+     * occupation_mask 도입 전의 조회 방식
+     */
+    private BooleanExpression existsPredicate(Long teamId, List<OccupationClassification> wanted) {
+        QAnnouncement announcement = QAnnouncement.announcement;
+        return announcement.team.id.eq(teamId)
+                .and(announcement.occupationClassifications.any().in(wanted));
+    }
+
+    private List<String> titlesByExists(Long teamId, List<OccupationClassification> wanted) {
+        QAnnouncement announcement = QAnnouncement.announcement;
+        return queryFactory
+                .select(announcement.title)
+                .from(announcement)
+                .where(existsPredicate(teamId, wanted))
+                .orderBy(announcement.timeStamp.createDate.desc(), announcement.id.desc())
+                .limit(PAGE_SIZE)
+                .fetch();
+    }
+
+    private long countByExists(Long teamId, List<OccupationClassification> wanted) {
+        QAnnouncement announcement = QAnnouncement.announcement;
+        Long count = queryFactory
+                .select(announcement.count())
+                .from(announcement)
+                .where(existsPredicate(teamId, wanted))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private Team createTeam() {
+        Team team = Team.builder()
+                .name("paging")
+                .build();
+        em.persist(team);
+        em.flush();
+        return team;
+    }
+
+    /**
+     * title은 title-{n}이며, n이 클수록 최신입니다.
+     */
+    private void seed(Team team, int rows) {
+        jdbcTemplate.update("""
+                        INSERT INTO team_announcements
+                            (title, vacancies, description, team_id, date_expired, date_published, create_date, update_at, occupation_mask)
+                        WITH RECURSIVE digits (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM digits WHERE d < 9)
+                        SELECT CONCAT('title-', n), 1, 'description', ?, '2030-01-01', NOW(6),
+                               TIMESTAMP('2024-01-01') + INTERVAL (n DIV 2) SECOND, NOW(6), 0
+                        FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 + g.d * 100000 AS n
+                              FROM digits a, digits b, digits c, digits e, digits f, digits g) numbers
+                        WHERE n < ?
+                        """,
+                team.getId(), rows);
+    }
+
+    /**
+     * 모집 인원, 마감일, 생성 시각이 여러 공고에서 겹치도록 넣어 ID로 순서를 정하는 경우를 만듭니다.
+     * title은 {prefix}{n}이며, 생성 시각은 {@code createdFrom}부터 두 개씩 같습니다.
+     */
+    private void seedVaried(Team team, String prefix, int rows, String createdFrom) {
+        jdbcTemplate.update("""
+                        INSERT INTO team_announcements
+                            (title, vacancies, description, team_id, date_expired, date_published, create_date, update_at, occupation_mask)
+                        WITH RECURSIVE digits (d) AS (SELECT 0 UNION ALL SELECT d + 1 FROM digits WHERE d < 9)
+                        SELECT CONCAT(?, n), n % 7 + 1, 'description', ?, TIMESTAMP('2030-01-01') + INTERVAL (n % 13) DAY, NOW(6),
+                               TIMESTAMP(?) + INTERVAL (n DIV 2) SECOND, NOW(6), 0
+                        FROM (SELECT a.d + b.d * 10 AS n FROM digits a, digits b) numbers
+                        WHERE n < ?
+                        """,
+                prefix, team.getId(), createdFrom, rows);
+    }
+
+    private record Row(long id, LocalDateTime createDate, LocalDateTime expiredDate, int vacancies) {
+    }
+
+    private Map<String, Row> rows(Team team) {
+        return jdbcTemplate.query(
+                        "SELECT title, team_announcement_id, create_date, date_expired, vacancies FROM team_announcements WHERE team_id = ?",
+                        (rs, rowNum) -> Map.entry(rs.getString("title"), new Row(
+                                rs.getLong("team_announcement_id"),
+                                rs.getTimestamp("create_date").toLocalDateTime(),
+                                rs.getTimestamp("date_expired").toLocalDateTime(),
+                                rs.getInt("vacancies"))),
+                        team.getId())
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static Comparator<Row> order(AnnouncementSort sort) {
+        return switch (sort) {
+            case NEWEST -> Comparator.comparing(Row::createDate).thenComparing(Row::id).reversed();
+            case EXPIRING_SOON -> Comparator.comparing(Row::expiredDate).thenComparing(Row::id);
+            case MOST_VACANCIES -> Comparator.comparing(Row::vacancies).thenComparing(Row::id).reversed();
+        };
+    }
+
+    /**
+     * 공고마다 ID로 정한 분류 한두 개를 collection table에만 넣습니다. mask는 {@link #backfillOccupationMask()}가 채웁니다.
+     */
+    private void seedOccupationClassifications(Team team) {
+        OccupationClassification[] values = OccupationClassification.values();
+        String names = Arrays.stream(values)
+                .map(value -> "'" + value.name() + "'")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.update("""
+                        INSERT INTO announcement_occupation_classifications
+                            (announcement_team_announcement_id, occupation_classifications)
+                        SELECT team_announcement_id, ELT(team_announcement_id %% %1$d + 1, %2$s)
+                        FROM team_announcements
+                        WHERE team_id = ?
+                        UNION ALL
+                        SELECT team_announcement_id, ELT((team_announcement_id DIV %1$d) %% %1$d + 1, %2$s)
+                        FROM team_announcements
+                        WHERE team_id = ? AND (team_announcement_id DIV %1$d) %% %1$d <> team_announcement_id %% %1$d
+                        """.formatted(values.length, names),
+                team.getId(), team.getId());
+    }
+
+    /**
+     * V3 migration의 mask backfill을 다시 실행합니다.
+     */
+    private void backfillOccupationMask() {
+        String migration;
+        try {
+            migration = new ClassPathResource("db/migration/V3__announcement_occupation_mask.sql")
+                    .getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String backfill = Arrays.stream(migration.split(";"))
+                .map(statement -> statement.lines().filter(line -> !line.startsWith("--")).collect(Collectors.joining("\n")).strip())
+                .filter(statement -> statement.startsWith("UPDATE"))
+                .findFirst()
+                .orElseThrow();
+        jdbcTemplate.update(backfill);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementRequest;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementUpdateRequest;
+import com.example.eumserver.domain.team.announcement.mapper.AnnouncementMapper;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import com.example.eumserver.global.cache.TwoTierCache;
+import com.example.eumserver.global.cache.TwoTierCacheManager;
+import com.example.eumserver.global.config.CacheConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 공고 수정/삭제 후 이 서버와 다른 서버의 캐시에서 이전 값이 읽히지 않는지 확인합니다.
+ * 무효화는 commit 이후에도 수행되므로 테스트 transaction 없이 실행합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnnouncementCacheTest extends BaseIntegrationTest {
+
+    @Autowired
+    AnnouncementService announcementService;
+
+    @Autowired
+    AnnouncementRepository announcementRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("수정_후_조회는_수정된_공고를_반환")
+    void update_is_visible_after_cached_read() {
+        Long id = create();
+        String title = announcementService.getAnnouncement(id).title();
+
+        double localHits = requests("local_hit");
+        assertEquals(title, announcementService.getAnnouncement(id).title());
+        assertEquals(localHits + 1, requests("local_hit"));
+
+        announcementService.updateAnnouncement(id, update("cache-updated-" + id));
+
+        assertEquals("cache-updated-" + id, announcementService.getAnnouncement(id).title());
+    }
+
+    @Test
+    @DisplayName("다른_서버의_로컬_캐시도_무효화")
+    void update_evicts_other_node() throws InterruptedException {
+        TwoTierCacheManager otherNode = new TwoTierCacheManager(
+                redisTemplate, listenerContainer, objectMapper, new SimpleMeterRegistry(), 100, 600_000, 600_000);
+        otherNode.subscribe();
+        TwoTierCache<AnnouncementResponse> otherCache = otherNode.create(CacheConfig.ANNOUNCEMENT_CACHE, AnnouncementResponse.class);
+
+        Long id = create();
+        String title = otherCache.get(id, () -> load(id)).title();
+        assertEquals(title, otherCache.get(id, () -> fail("should be cached")).title());
+
+        announcementService.updateAnnouncement(id, update("cache-other-" + id));
+
+        awaitUntil(() -> otherCache.get(id, () -> load(id)).title().equals("cache-other-" + id), 5_000);
+    }
+
+    @Test
+    @DisplayName("삭제_후_조회는_실패")
+    void delete_evicts_cache() {
+        Long id = create();
+        announcementService.getAnnouncement(id);
+
+        announcementService.deleteAnnouncement(id);
+
+        assertThrows(RuntimeException.class, () -> announcementService.getAnnouncement(id));
+    }
+
+    private AnnouncementResponse load(Long id) {
+        return AnnouncementMapper.INSTANCE.entityToResponse(announcementService.findAnnouncementById(id));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("cache.two_tier.requests")
+                .tag("cache", CacheConfig.ANNOUNCEMENT_CACHE)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private Long create() {
+        Team team = teamRepository.save(Team.builder().name("cache").build());
+        String title = "cache-" + UUID.randomUUID();
+        announcementService.createAnnouncement(team.getId(), new AnnouncementRequest(
+                title, "description", 1, List.of(OccupationClassification.DEVELOPMENT_BACKEND), true,
+                LocalDateTime.now().plusDays(7)));
+        return announcementRepository.findAll().stream()
+                .filter(announcement -> announcement.getTitle().equals(title))
+                .map(Announcement::getId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static AnnouncementUpdateRequest update(String title) {
+        return new AnnouncementUpdateRequest(
+                title, "description", 1, List.of(OccupationClassification.DEVELOPMENT_BACKEND), true,
+                LocalDateTime.now().plusDays(7));
+    }
+}
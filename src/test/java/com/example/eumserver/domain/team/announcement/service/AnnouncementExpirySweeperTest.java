@@ -0,0 +1,110 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementSort;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedItem;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementRequest;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementResponse;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import com.example.eumserver.global.lock.RedisLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 마감일이 지난 공고가 닫히고 목록과 feed에서 빠지는지 확인합니다.
+ * feed는 commit 이후에 갱신되므로 테스트 transaction 없이 실행합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnnouncementExpirySweeperTest extends BaseIntegrationTest {
+
+    private static final AnnouncementFilter NO_FILTER = new AnnouncementFilter(false, List.of());
+
+    @Autowired
+    AnnouncementExpirySweeper sweeper;
+
+    @Autowired
+    AnnouncementService announcementService;
+
+    @Autowired
+    AnnouncementFeedService announcementFeedService;
+
+    @Autowired
+    AnnouncementRepository announcementRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    RedisLock redisLock;
+
+    @Test
+    @DisplayName("마감일이_지난_공고만_닫고_목록과_feed에서_제외")
+    void sweep_closes_expired_announcements() {
+        Team team = teamRepository.save(Team.builder().name("expiry").build());
+        Announcement expired = create(team, LocalDateTime.now().minusDays(1));
+        Announcement open = create(team, LocalDateTime.now().plusDays(7));
+        assertEquals(2, listedTitles(team).size());
+
+        assertTrue(sweeper.sweep(LocalDateTime.now()) >= 1);
+
+        assertTrue(announcementRepository.findById(expired.getId()).orElseThrow().isClosed());
+        assertFalse(announcementRepository.findById(open.getId()).orElseThrow().isClosed());
+        assertEquals(List.of(open.getTitle()), listedTitles(team));
+        List<Long> feedIds = announcementFeedService.getFeed(null, null, 50).content().stream()
+                .map(AnnouncementFeedItem::id)
+                .toList();
+        assertFalse(feedIds.contains(expired.getId()));
+        assertTrue(feedIds.contains(open.getId()));
+        assertEquals(0, sweeper.sweep(LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("다른_서버가_잠금을_갖고_있으면_실행하지_않음")
+    void sweep_skips_when_locked() {
+        Team team = teamRepository.save(Team.builder().name("expiry").build());
+        Announcement expired = create(team, LocalDateTime.now().minusDays(1));
+        String token = redisLock.tryLock(AnnouncementExpirySweeper.LOCK_NAME, Duration.ofSeconds(10));
+        assertNotNull(token);
+
+        try {
+            sweeper.sweep();
+            assertFalse(announcementRepository.findById(expired.getId()).orElseThrow().isClosed());
+        } finally {
+            redisLock.unlock(AnnouncementExpirySweeper.LOCK_NAME, token);
+        }
+
+        sweeper.sweep();
+        assertTrue(announcementRepository.findById(expired.getId()).orElseThrow().isClosed());
+    }
+
+    private List<String> listedTitles(Team team) {
+        return announcementService.getFilteredAnnouncementsWithCursor(team.getId(), null, AnnouncementSort.NEWEST, NO_FILTER).content().stream()
+                .map(AnnouncementResponse::title)
+                .toList();
+    }
+
+    private Announcement create(Team team, LocalDateTime expiredDate) {
+        String title = "expiry-" + UUID.randomUUID();
+        announcementService.createAnnouncement(team.getId(), new AnnouncementRequest(
+                title, "description", 1, List.of(OccupationClassification.DEVELOPMENT_BACKEND), true, expiredDate));
+        return announcementRepository.findAll().stream()
+                .filter(announcement -> announcement.getTitle().equals(title))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.AnnouncementChangedEvent;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedItem;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFeedResponse;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementRequest;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementUpdateRequest;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementFeedStore;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시, 게시 취소, 분류 변경, 삭제 후 feed가 MySQL과 같은지 확인합니다.
+ * feed는 commit 이후에 갱신되므로 테스트 transaction 없이 실행합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnnouncementFeedServiceTest extends BaseIntegrationTest {
+
+    private static final OccupationClassification BACKEND = OccupationClassification.DEVELOPMENT_BACKEND;
+    private static final OccupationClassification DESIGN = OccupationClassification.DESIGN_UI_UX;
+
+    @Autowired
+    AnnouncementService announcementService;
+
+    @Autowired
+    AnnouncementFeedService announcementFeedService;
+
+    @Autowired
+    AnnouncementFeedStore announcementFeedStore;
+
+    @Autowired
+    AnnouncementRepository announcementRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("게시_게시취소_재게시_삭제가_feed에_반영")
+    void feed_follows_publish_transitions() {
+        Team team = teamRepository.save(Team.builder().name("feed").build());
+        Long id = create(team, List.of(BACKEND), true);
+
+        assertTrue(feedIds(null).contains(id));
+        assertTrue(feedIds(BACKEND).contains(id));
+        assertFalse(feedIds(DESIGN).contains(id));
+
+        announcementService.updateAnnouncement(id, update(List.of(BACKEND), false));
+        assertFalse(feedIds(null).contains(id));
+        assertFalse(feedIds(BACKEND).contains(id));
+
+        announcementService.updateAnnouncement(id, update(List.of(DESIGN), true));
+        assertTrue(feedIds(null).contains(id));
+        assertTrue(feedIds(DESIGN).contains(id));
+        assertFalse(feedIds(BACKEND).contains(id));
+        AnnouncementFeedItem item = feed(DESIGN).stream()
+                .filter(feedItem -> feedItem.id().equals(id))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(team.getId(), item.teamId());
+        assertEquals(List.of(DESIGN), item.occupationClassifications());
+
+        announcementService.deleteAnnouncement(id);
+        assertFalse(feedIds(null).contains(id));
+        assertFalse(feedIds(DESIGN).contains(id));
+    }
+
+    @Test
+    @DisplayName("게시하지_않은_공고는_feed에_없음")
+    void unpublished_announcement_is_not_in_feed() {
+        Team team = teamRepository.save(Team.builder().name("feed").build());
+        Long id = create(team, List.of(BACKEND), false);
+
+        assertFalse(feedIds(null).contains(id));
+        assertFalse(feedIds(BACKEND).contains(id));
+    }
+
+    @Test
+    @DisplayName("cursor로_최신순_feed를_이어서_조회")
+    void feed_pages_follow_cursor() {
+        Team team = teamRepository.save(Team.builder().name("feed").build());
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(create(team, List.of(BACKEND), true));
+        }
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        for (int i = 0; i < 3; i++) {
+            AnnouncementFeedResponse response = announcementFeedService.getFeed(BACKEND.getValue(), cursor, 1);
+            assertEquals(1, response.content().size());
+            paged.add(response.content().get(0).id());
+            cursor = response.nextCursor();
+        }
+
+        assertEquals(ids.reversed(), paged);
+    }
+
+    @Test
+    @DisplayName("feed가_유실되어도_MySQL로부터_다시_구성")
+    void rebuild_restores_feed() {
+        Team team = teamRepository.save(Team.builder().name("feed").build());
+        Long id = create(team, List.of(BACKEND), true);
+        announcementFeedStore.remove(id);
+        assertFalse(feedIds(BACKEND).contains(id));
+
+        assertTrue(announcementFeedService.rebuild() >= 1);
+
+        assertTrue(feedIds(BACKEND).contains(id));
+    }
+
+    @Test
+    @DisplayName("재구성이_읽은_뒤_삭제된_공고는_feed에_남지_않음")
+    void rebuild_does_not_restore_announcement_deleted_meanwhile() {
+        Team team = teamRepository.save(Team.builder().name("feed").build());
+        Long id = create(team, List.of(BACKEND), true);
+
+        // 재구성이 공고를 읽은 직후, feed에 넣기 전에 삭제가 commit되어 반영되는 순서를 재현합니다.
+        AtomicBoolean deleted = new AtomicBoolean();
+        AnnouncementFeedService[] feedService = new AnnouncementFeedService[1];
+        AnnouncementRepository repository = (AnnouncementRepository) Proxy.newProxyInstance(
+                AnnouncementRepository.class.getClassLoader(),
+                new Class<?>[]{AnnouncementRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(announcementRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findPublishedFeedItems")
+                            && ((List<?>) result).stream().anyMatch(item -> ((AnnouncementFeedItem) item).id().equals(id))
+                            && deleted.compareAndSet(false, true)) {
+                        announcementService.deleteAnnouncement(id);
+                        feedService[0].onChanged(AnnouncementChangedEvent.deleted(id));
+                    }
+                    return result;
+                });
+        feedService[0] = new AnnouncementFeedService(announcementFeedStore, repository, transactionManager);
+
+        feedService[0].rebuild();
+
+        assertTrue(deleted.get());
+        assertFalse(feedIds(null).contains(id));
+        assertFalse(feedIds(BACKEND).contains(id));
+    }
+
+    private Long create(Team team, List<OccupationClassification> occupationClassifications, boolean publish) {
+        String title = "feed-" + UUID.randomUUID();
+        announcementService.createAnnouncement(team.getId(), new AnnouncementRequest(
+                title, "description", 1, occupationClassifications, publish, LocalDateTime.now().plusDays(7)));
+        return announcementRepository.findAll().stream()
+                .filter(announcement -> announcement.getTitle().equals(title))
+                .map(Announcement::getId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static AnnouncementUpdateRequest update(List<OccupationClassification> occupationClassifications, boolean publish) {
+        return new AnnouncementUpdateRequest(
+                "feed-updated", "description", 1, occupationClassifications, publish, LocalDateTime.now().plusDays(7));
+    }
+
+    private List<AnnouncementFeedItem> feed(OccupationClassification occupation) {
+        return announcementFeedService.getFeed(occupation == null ? null : occupation.getValue(), null, 50).content();
+    }
+
+    private List<Long> feedIds(OccupationClassification occupation) {
+        return feed(occupation).stream().map(AnnouncementFeedItem::id).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.ResumeCandidate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnnouncementMatcherTest {
+
+    private static final long BACKEND = OccupationClassification.toMask(List.of(OccupationClassification.DEVELOPMENT_BACKEND));
+
+    @Test
+    @DisplayName("세부_직무_일치_직무만_일치_기술만_일치_순")
+    void occupation_outweighs_keywords() {
+        AnnouncementMatcher matcher = new AnnouncementMatcher(BACKEND, "백엔드 개발자 모집", "Spring, MySQL 경험자");
+
+        List<AnnouncementMatcher.Profile> profiles = List.of(
+                profile(1L, "development", "backend", List.of(), List.of("Kotlin")),
+                profile(2L, "Development", "Frontend", List.of(), List.of("Spring")),
+                profile(3L, "design", "ui_ux", List.of(), List.of("Spring", "MySQL")),
+                profile(4L, "design", "ui_ux", List.of(), List.of("Figma")),
+                profile(5L, "development", "backend", List.of(), List.of("Spring", "MySQL")));
+
+        AnnouncementMatcher.Ranking ranking = matcher.rank(profiles.stream(), 10);
+
+        assertEquals(List.of(5L, 1L, 2L, 3L), ranking.candidates().stream().map(ResumeCandidate::resumeId).toList());
+        assertEquals(4, ranking.candidateCount());
+        assertEquals(0.0, matcher.score(profiles.get(3)));
+    }
+
+    @Test
+    @DisplayName("같은_점수는_최근_이력서_순으로_상위만")
+    void ranking_keeps_top_by_score_then_newest() {
+        AnnouncementMatcher matcher = new AnnouncementMatcher(BACKEND, "backend", null);
+        List<AnnouncementMatcher.Profile> profiles = IntStream.rangeClosed(1, 5)
+                .mapToObj(id -> profile(id, "development", "backend", List.of(), List.of()))
+                .toList();
+
+        AnnouncementMatcher.Ranking ranking = matcher.rank(profiles.stream(), 2);
+
+        assertEquals(List.of(5L, 4L), ranking.candidates().stream().map(ResumeCandidate::resumeId).toList());
+        assertEquals(5, ranking.candidateCount());
+    }
+
+    /**
+     * 공개 이력서 1만 개를 순차 stream과 fork-join parallel stream으로 골라 같은 결과인지 확인합니다.
+     * 처리량은 AnnouncementMatcherBenchmark로 잽니다.
+     */
+    @Test
+    @DisplayName("순차_계산과_병렬_계산의_상위_목록이_같음")
+    void parallel_ranking_matches_sequential() {
+        Random random = new Random(42);
+        List<String> categories = List.of("development", "design", "planning", "marketing", "data");
+        List<String> subcategories = List.of("backend", "frontend", "android", "ios", "ui_ux", "devops");
+        List<String> certificates = IntStream.range(0, 200).mapToObj(i -> "certificate" + i).toList();
+        List<String> technologies = IntStream.range(0, 500).mapToObj(i -> "technology" + i).toList();
+
+        List<AnnouncementMatcher.Profile> profiles = new ArrayList<>(10_000);
+        for (long id = 1; id <= 10_000; id++) {
+            profiles.add(profile(id, pick(random, categories), pick(random, subcategories),
+                    picks(random, certificates, random.nextInt(4)), picks(random, technologies, 1 + random.nextInt(5))));
+        }
+        AnnouncementMatcher matcher = new AnnouncementMatcher(BACKEND, "백엔드 개발자 모집",
+                "technology1, technology2, technology3 경험자 우대, certificate7 보유자");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AnnouncementMatcher.Ranking sequential = matcher.rank(profiles.stream(), 200);
+            AnnouncementMatcher.Ranking parallel = pool.submit(() -> matcher.rank(profiles.parallelStream(), 200)).join();
+
+            assertEquals(sequential.candidates(), parallel.candidates());
+            assertEquals(sequential.candidateCount(), parallel.candidateCount());
+            assertEquals(200, parallel.candidates().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static AnnouncementMatcher.Profile profile(long id, String jobCategory, String jobSubcategory,
+                                                      List<String> certificates, List<String> technologies) {
+        return AnnouncementMatcher.profile(
+                new ResumeSearchResult(id, id, "resume" + id, jobCategory, jobSubcategory, 4.0, certificates, technologies));
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<String> picks(Random random, List<String> values, int count) {
+        List<String> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(pick(random, values));
+        }
+        return picked;
+    }
+}
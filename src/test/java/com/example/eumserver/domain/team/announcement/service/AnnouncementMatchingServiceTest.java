@@ -0,0 +1,108 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.resume.ResumeService;
+import com.example.eumserver.domain.resume.dto.ResumeCareerRequest;
+import com.example.eumserver.domain.resume.dto.ResumeCertificateRequest;
+import com.example.eumserver.domain.resume.dto.ResumeRequest;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementRequest;
+import com.example.eumserver.domain.team.announcement.dto.ResumeCandidate;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import com.example.eumserver.domain.user.Name;
+import com.example.eumserver.domain.user.User;
+import com.example.eumserver.domain.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 공고의 추천 후보가 이력서 변경을 따라가는지 확인합니다.
+ * 이력서 index와 후보 목록은 commit 이후에 갱신되므로 테스트 transaction 없이 실행합니다.
+ * 실행마다 다른 기술 이름을 써서 다른 테스트의 이력서보다 점수가 높게 합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnnouncementMatchingServiceTest extends BaseIntegrationTest {
+
+    @Autowired
+    AnnouncementMatchingService announcementMatchingService;
+
+    @Autowired
+    AnnouncementService announcementService;
+
+    @Autowired
+    AnnouncementRepository announcementRepository;
+
+    @Autowired
+    ResumeService resumeService;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("직종과_기술이_맞는_이력서가_첫_후보_비공개로_바꾸면_제외")
+    void candidates_follow_resume_changes() {
+        String technology = "kw" + UUID.randomUUID().toString().replace("-", "");
+        User user = createUser();
+        long resumeId = resumeService.postResume(resumeRequest(true, "Spring, " + technology), user.getId()).getId();
+        Long announcementId = createAnnouncement(technology);
+
+        List<ResumeCandidate> candidates = announcementMatchingService.getCandidates(announcementId, 10);
+        assertFalse(candidates.isEmpty());
+        assertEquals(resumeId, candidates.get(0).resumeId());
+        assertEquals(user.getId(), candidates.get(0).userId());
+        assertTrue(candidates.get(0).score() > 0.7);
+
+        resumeService.updateResume(resumeRequest(false, "Spring, " + technology), resumeId, user.getId());
+        assertTrue(announcementMatchingService.getCandidates(announcementId, 10).stream()
+                .noneMatch(candidate -> candidate.resumeId().equals(resumeId)));
+
+        resumeService.updateResume(resumeRequest(true, "Spring, " + technology), resumeId, user.getId());
+        assertEquals(resumeId, announcementMatchingService.getCandidates(announcementId, 10).get(0).resumeId());
+    }
+
+    private Long createAnnouncement(String description) {
+        Team team = teamRepository.save(Team.builder().name("matching").build());
+        String title = "matching-" + UUID.randomUUID();
+        announcementService.createAnnouncement(team.getId(), new AnnouncementRequest(
+                title, description, 1, List.of(OccupationClassification.DEVELOPMENT_BACKEND), true,
+                LocalDateTime.now().plusDays(7)));
+        return announcementRepository.findAll().stream()
+                .filter(announcement -> announcement.getTitle().equals(title))
+                .map(Announcement::getId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private User createUser() {
+        return userRepository.save(User.builder()
+                .email(UUID.randomUUID() + "@e-um.site")
+                .name(new Name("matching", ""))
+                .provider("google")
+                .providerId(UUID.randomUUID().toString())
+                .build());
+    }
+
+    private static ResumeRequest resumeRequest(boolean isPublic, String technologies) {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        return new ResumeRequest("matching", "development", "backend", 4.0, 4.5, "introduction", isPublic,
+                List.of(new ResumeCareerRequest(null, "company", "backend", startDate, null, technologies, null, null)),
+                List.of(new ResumeCertificateRequest(null, "정보처리기사", startDate, null, null, null)),
+                List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import com.example.eumserver.domain.team.announcement.domain.Announcement;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementFilter;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementRequest;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementSearchResult;
+import com.example.eumserver.domain.team.announcement.dto.AnnouncementUpdateRequest;
+import com.example.eumserver.domain.team.announcement.repository.AnnouncementRepository;
+import com.example.eumserver.global.error.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FULLTEXT(ngram) 검색의 관련도 순서, 필터, 변경 반영을 확인합니다. 100만 건에서의 응답 시간은 AnnouncementSearchBenchmark로 잽니다.
+ * FULLTEXT index는 commit 시점에 갱신되므로 테스트 transaction 없이 실행하고, 만든 공고는 직접 지웁니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnnouncementSearchTest extends BaseIntegrationTest {
+
+    @Autowired
+    AnnouncementService announcementService;
+
+    @Autowired
+    AnnouncementRepository announcementRepository;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final List<Long> teamIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteAnnouncements() {
+        for (Long teamId : teamIds) {
+            jdbcTemplate.update("""
+                    DELETE c FROM announcement_occupation_classifications c
+                    JOIN team_announcements a ON a.team_announcement_id = c.announcement_team_announcement_id
+                    WHERE a.team_id = ?
+                    """, teamId);
+            jdbcTemplate.update("DELETE FROM team_announcements WHERE team_id = ?", teamId);
+        }
+        teamIds.clear();
+    }
+
+    @Test
+    @DisplayName("검색어에서_연산자를_지우고_짧은_검색어는_제외")
+    void boolean_query_is_sanitized() {
+        assertEquals("+백엔드 +개발자", AnnouncementService.toBooleanQuery("백엔드 개발자"));
+        assertEquals("+스프링 +부트", AnnouncementService.toBooleanQuery("-스프링* (부트) 이"));
+        assertEquals("", AnnouncementService.toBooleanQuery(" + ~ \""));
+        assertThrows(CustomException.class, () -> announcementService.searchAnnouncements("백", 0, null));
+    }
+
+    @Test
+    @DisplayName("제목과_본문에서_관련도_순으로_검색하고_변경을_반영")
+    void search_ranks_and_follows_writes() {
+        Team team = createTeam();
+        Long backend = create(team, "백엔드 개발자 모집", "스프링 백엔드 서버 개발", OccupationClassification.DEVELOPMENT_BACKEND);
+        Long designer = create(team, "디자이너 모집", "백엔드 팀과 협업할 디자이너", OccupationClassification.DESIGN_UI_UX);
+        Long frontend = create(team, "프론트엔드 개발자 모집", "리액트 화면 개발", OccupationClassification.DEVELOPMENT_FRONTEND);
+
+        assertEquals(List.of(backend, designer), search(team, "백엔드", null));
+        assertEquals(Set.of(backend, frontend), Set.copyOf(search(team, "개발자 모집", null)));
+        assertEquals(List.of(designer), search(team, "백엔드",
+                new AnnouncementFilter(false, List.of(OccupationClassification.DESIGN_UI_UX))));
+
+        announcementService.updateAnnouncement(backend, new AnnouncementUpdateRequest(
+                "서버 개발자 모집", "스프링 서버 개발", 1,
+                List.of(OccupationClassification.DEVELOPMENT_BACKEND), true, LocalDateTime.now().plusDays(7)));
+        assertEquals(List.of(designer), search(team, "백엔드", null));
+
+        announcementService.deleteAnnouncement(designer);
+        assertEquals(List.of(), search(team, "백엔드", null));
+    }
+
+    @Test
+    @DisplayName("게시하지_않은_공고는_필터와_관계없이_검색되지_않음")
+    void draft_is_never_searched() {
+        Team team = createTeam();
+        Long published = create(team, "백엔드 개발자 모집", "스프링 서버 개발", OccupationClassification.DEVELOPMENT_BACKEND, true);
+        create(team, "백엔드 개발자 모집 초안", "스프링 서버 개발", OccupationClassification.DEVELOPMENT_BACKEND, false);
+
+        assertEquals(List.of(published), search(team, "백엔드", null));
+        assertEquals(List.of(published), search(team, "백엔드", new AnnouncementFilter(false, List.of())));
+        assertEquals(List.of(published), search(team, "백엔드", new AnnouncementFilter(true, List.of())));
+    }
+
+    private Team createTeam() {
+        Team team = teamRepository.save(Team.builder().name("search").build());
+        teamIds.add(team.getId());
+        return team;
+    }
+
+    private Long create(Team team, String title, String description, OccupationClassification occupation) {
+        return create(team, title, description, occupation, true);
+    }
+
+    private Long create(Team team, String title, String description, OccupationClassification occupation, boolean publish) {
+        String marker = UUID.randomUUID().toString();
+        announcementService.createAnnouncement(team.getId(), new AnnouncementRequest(
+                title, description + " " + marker, 1, List.of(occupation), publish, LocalDateTime.now().plusDays(7)));
+        return announcementRepository.findAll().stream()
+                .filter(announcement -> announcement.getDescription().endsWith(marker))
+                .map(Announcement::getId)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<Long> search(Team team, String query, AnnouncementFilter filter) {
+        return announcementService.searchAnnouncements(query, 0, filter).content().stream()
+                .filter(result -> result.teamId().equals(team.getId()))
+                .map(AnnouncementSearchResult::id)
+                .toList();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.eumserver.domain.team.announcement.service;
+
+import com.example.eumserver.domain.resume.dto.ResumeSearchResult;
+import com.example.eumserver.domain.team.announcement.domain.OccupationClassification;
+import com.example.eumserver.domain.team.announcement.dto.ResumeCandidate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateListTest {
+
+    private static final AnnouncementMatcher MATCHER = new AnnouncementMatcher(
+            OccupationClassification.toMask(List.of(OccupationClassification.DEVELOPMENT_BACKEND)), "backend", "spring");
+
+    @Test
+    @DisplayName("잘린_목록에서_이력서를_비공개로_바꾸면_목록에서_빠짐")
+    void private_resume_leaves_truncated_list() {
+        // top-k 2, 보관 4개, 맞는 이력서 10개
+        CandidateList candidateList = candidateList(2, 10);
+
+        assertTrue(candidateList.update(10L, null, 1));
+        assertEquals(List.of(9L, 8L), ids(candidateList.top(2)));
+
+        assertTrue(candidateList.update(9L, null, 2));
+        assertEquals(List.of(8L, 7L), ids(candidateList.top(2)));
+
+        // 남은 후보가 top-k보다 적으면 목록 밖의 이력서를 알 수 없으므로 다시 계산해야 합니다.
+        assertFalse(candidateList.update(8L, null, 3));
+    }
+
+    @Test
+    @DisplayName("잘린_목록에는_마지막_후보보다_높은_이력서만_들어감")
+    void truncated_list_only_accepts_higher_ranked_resumes() {
+        CandidateList candidateList = candidateList(2, 10);
+
+        // 목록 밖의 이력서 3이 점수가 오르면 들어가고, 보관 개수를 넘는 마지막 후보는 빠집니다.
+        assertTrue(candidateList.update(3L, profile(3L, List.of("Spring")), 1));
+        assertEquals(List.of(3L, 10L), ids(candidateList.top(2)));
+        assertEquals(List.of(3L, 10L, 9L, 8L), ids(candidateList.top(4)));
+
+        // 마지막 후보보다 낮은 이력서는 들어가지 않습니다.
+        assertTrue(candidateList.update(1L, profile(1L, List.of()), 2));
+        assertEquals(List.of(3L, 10L, 9L, 8L), ids(candidateList.top(4)));
+    }
+
+    @Test
+    @DisplayName("잘리지_않은_목록은_점수가_있는_이력서를_모두_보관")
+    void complete_list_accepts_any_matching_resume() {
+        CandidateList candidateList = candidateList(2, 3);
+
+        assertTrue(candidateList.update(3L, null, 1));
+        assertTrue(candidateList.update(1L, null, 2));
+        assertEquals(List.of(2L), ids(candidateList.top(2)));
+
+        assertTrue(candidateList.update(1L, profile(1L, List.of()), 3));
+        assertEquals(List.of(2L, 1L), ids(candidateList.top(2)));
+    }
+
+    @Test
+    @DisplayName("앞선_이력서_변경을_놓친_목록은_갱신하지_않고_지우도록_알림")
+    void list_that_missed_a_change_is_dropped() {
+        CandidateList candidateList = candidateList(2, 3);
+
+        assertTrue(candidateList.update(3L, null, 1));
+        assertEquals(1, candidateList.version());
+
+        // 버전 2의 변경은 목록이 캐시에 들어가기 전에 지나갔습니다.
+        assertFalse(candidateList.update(1L, null, 3));
+        assertEquals(1, candidateList.version());
+        assertEquals(List.of(2L, 1L), ids(candidateList.top(2)));
+        assertFalse(candidateList.update(2L, null, 1));
+    }
+
+    /**
+     * 점수가 같은 이력서 {@code resumes}개로 만든 목록, 같은 점수는 최근 이력서 순입니다.
+     */
+    private static CandidateList candidateList(int topK, int resumes) {
+        AnnouncementMatcher.Ranking ranking = MATCHER.rank(
+                LongStream.rangeClosed(1, resumes).mapToObj(id -> profile(id, List.of())), 2 * topK);
+        return new CandidateList(MATCHER, ranking, topK, 0);
+    }
+
+    private static AnnouncementMatcher.Profile profile(long id, List<String> technologies) {
+        return AnnouncementMatcher.profile(
+                new ResumeSearchResult(id, id, "resume" + id, "development", "backend", 4.0, List.of(), technologies));
+    }
+
+    private static List<Long> ids(List<ResumeCandidate> candidates) {
+        return candidates.stream().map(ResumeCandidate::resumeId).toList();
+    }
+}
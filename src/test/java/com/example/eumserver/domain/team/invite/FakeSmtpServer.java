@@ -0,0 +1,121 @@
+package com.example.eumserver.domain.team.invite;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 SMTP stand-in
+ * 받은 메일 수만 세고, 메일 한 통마다 지정한 시간만큼 지연하여 느린 SMTP 서버를 흉내냅니다.
+ * {@link #hold()}하면 {@link #release()}할 때까지 메일 본문에 응답하지 않습니다.
+ */
+class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger recipientsToReject = new AtomicInteger();
+    private final long delayPerMessageInMs;
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    FakeSmtpServer(long delayPerMessageInMs) throws IOException {
+        this.serverSocket = new ServerSocket(0);
+        this.delayPerMessageInMs = delayPerMessageInMs;
+        executor.execute(this::accept);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getReceived() {
+        return received.get();
+    }
+
+    int getConnections() {
+        return connections.get();
+    }
+
+    void hold() {
+        gate = new CountDownLatch(1);
+    }
+
+    void release() {
+        gate.countDown();
+    }
+
+    /**
+     * 다음 {@code count}개의 수신자를 일시적 오류(451)로 거절합니다.
+     */
+    void rejectNextRecipients(int count) {
+        recipientsToReject.set(count);
+    }
+
+    @Override
+    public void close() throws IOException {
+        release();
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                executor.execute(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))) {
+            OutputStream out = socket.getOutputStream();
+            reply(out, "220 localhost fake smtp");
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.toUpperCase(Locale.ROOT);
+                if (command.startsWith("RCPT")) {
+                    boolean reject = recipientsToReject.getAndUpdate(count -> Math.max(0, count - 1)) > 0;
+                    reply(out, reject ? "451 try again later" : "250 OK");
+                } else if (command.startsWith("DATA")) {
+                    reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                    while ((line = reader.readLine()) != null && !line.equals(".")) {
+                        // 본문은 버립니다.
+                    }
+                    gate.await();
+                    Thread.sleep(delayPerMessageInMs);
+                    received.incrementAndGet();
+                    reply(out, "250 OK");
+                } else if (command.startsWith("QUIT")) {
+                    reply(out, "221 bye");
+                    return;
+                } else {
+                    reply(out, "250 OK");
+                }
+            }
+        } catch (IOException | InterruptedException e) {
+            // 연결 종료
+        }
+    }
+
+    private static void reply(OutputStream out, String line) throws IOException {
+        out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.eumserver.domain.team.invite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InviteMailRendererTest {
+
+    private final SpringTemplateEngine templateEngine = templateEngine();
+
+    @Test
+    @DisplayName("미리_나눈_템플릿으로_만든_HTML은_Thymeleaf_결과와_같음")
+    void html_matches_thymeleaf() {
+        InviteMailRenderer renderer = new InviteMailRenderer(templateEngine, 10);
+
+        for (String teamName : new String[]{"이음", "<script>&\"'", "team name with spaces"}) {
+            String token = UUID.randomUUID().toString();
+            assertEquals(process(teamName, token), renderer.html(teamName, token));
+        }
+    }
+
+    @Test
+    @DisplayName("memo를_사용해도_토큰은_메일마다_다름")
+    void memo_does_not_leak_token() {
+        InviteMailRenderer renderer = new InviteMailRenderer(templateEngine, 10);
+
+        String first = renderer.html("이음", "token-1");
+        String second = renderer.html("이음", "token-2");
+
+        assertTrue(first.contains("token-1"));
+        assertTrue(second.contains("token-2"));
+        assertFalse(second.contains("token-1"));
+        assertEquals("[이음] 이음 팀에서 초대", renderer.subject("이음"));
+    }
+
+    private String process(String teamName, String token) {
+        Context context = new Context();
+        context.setVariable("team_name", teamName);
+        context.setVariable("token", token);
+        return templateEngine.process("invite", context);
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        return templateEngine;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.eumserver.domain.team.invite;
+
+import com.example.eumserver.BaseIntegrationTest;
+import com.example.eumserver.domain.team.Team;
+import com.example.eumserver.domain.team.TeamRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 SMTP stand-in으로 초대 요청이 발송을 기다리지 않는지와 outbox 발송, 재시도를 확인합니다.
+ * 발송은 commit 이후에 시작되므로 테스트 transaction 없이 실행합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InviteServiceTest extends BaseIntegrationTest {
+
+    private static final long SMTP_DELAY_PER_MESSAGE_IN_MS = 20;
+
+    private static final FakeSmtpServer smtpServer;
+
+    static {
+        try {
+            smtpServer = new FakeSmtpServer(SMTP_DELAY_PER_MESSAGE_IN_MS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Autowired
+    InviteService inviteService;
+
+    @Autowired
+    TeamRepository teamRepository;
+
+    @Autowired
+    InviteMailRepository inviteMailRepository;
+
+    @DynamicPropertySource
+    private static void configureMail(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", smtpServer::getPort);
+        registry.add("spring.mail.properties.mail.smtp.auth", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.starttls.enable", () -> "false");
+        registry.add("invite.mail.poll-interval-ms", () -> "100");
+        registry.add("invite.mail.retry-base-delay-ms", () -> "100");
+    }
+
+    @AfterAll
+    static void stopSmtpServer() throws IOException {
+        smtpServer.close();
+    }
+
+    @Test
+    @DisplayName("초대_요청은_SMTP_발송을_기다리지_않음")
+    void invite_returns_before_mails_are_sent() throws InterruptedException {
+        int recipients = 200;
+        Team team = teamRepository.save(Team.builder().name("outbox").build());
+        int receivedBefore = smtpServer.getReceived();
+
+        // SMTP 서버가 응답하지 않는 동안에도 요청은 끝나야 합니다.
+        smtpServer.hold();
+        Invite invite;
+        try {
+            invite = inviteService.inviteUsers(team.getId(), emails(recipients));
+
+            assertEquals(receivedBefore, smtpServer.getReceived());
+            assertEquals(0, countByStatus(invite, InviteMailStatus.SENT));
+            assertEquals(recipients, mailsOf(invite).size());
+        } finally {
+            smtpServer.release();
+        }
+
+        awaitUntil(() -> countByStatus(invite, InviteMailStatus.SENT) == recipients, 30_000);
+        assertTrue(smtpServer.getReceived() - receivedBefore >= recipients);
+    }
+
+    @Test
+    @DisplayName("일시적_오류로_실패한_메일은_재시도")
+    void failed_mail_is_retried() throws InterruptedException {
+        Team team = teamRepository.save(Team.builder().name("retry").build());
+        smtpServer.rejectNextRecipients(1);
+
+        Invite invite = inviteService.inviteUsers(team.getId(), emails(3));
+
+        awaitUntil(() -> countByStatus(invite, InviteMailStatus.SENT) == 3, 10_000);
+        List<InviteMail> mails = mailsOf(invite);
+        assertEquals(1, mails.stream().filter(mail -> mail.getAttempts() == 2).count());
+    }
+
+    private List<InviteMail> mailsOf(Invite invite) {
+        return inviteMailRepository.findAll().stream()
+                .filter(mail -> mail.getInvite().getId().equals(invite.getId()))
+                .toList();
+    }
+
+    private long countByStatus(Invite invite, InviteMailStatus status) {
+        return mailsOf(invite).stream().filter(mail -> mail.getStatus() == status).count();
+    }
+
+    private static List<String> emails(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "user" + i + "@e-um.site")
+                .toList();
+    }
+}